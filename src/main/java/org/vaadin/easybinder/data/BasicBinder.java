@@ -18,23 +18,31 @@
  */
 package org.vaadin.easybinder.data;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import javax.validation.ConstraintViolation;
-import javax.validation.Validation;
+import javax.validation.GroupSequence;
 import javax.validation.Validator;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
 
 import com.vaadin.data.Binder.Binding;
 import com.vaadin.data.BindingValidationStatus;
@@ -48,7 +56,7 @@ import com.vaadin.data.Result;
 import com.vaadin.data.ValidationResult;
 import com.vaadin.data.ValueContext;
 import com.vaadin.data.ValueProvider;
-import com.vaadin.event.EventRouter;
+import com.vaadin.server.SerializableFunction;
 import com.vaadin.server.Setter;
 import com.vaadin.server.UserError;
 import com.vaadin.shared.Registration;
@@ -61,6 +69,8 @@ import com.vaadin.ui.UI;
 public class BasicBinder<BEAN> {
 
 	public static class EasyBinding<BEAN, FIELDVALUE, TARGET> implements Binding<BEAN, TARGET> {
+		private static final ValidationResult OK = ValidationResult.ok();
+
 		protected final HasValue<FIELDVALUE> field;
 		protected final ValueProvider<BEAN, TARGET> getter;
 		protected final Setter<BEAN, TARGET> setter;
@@ -72,11 +82,44 @@ public class BasicBinder<BEAN> {
 		protected String conversionError = null;
 		protected String validationError = null;
 
+		// Slot in the BindingTable of the binder, maintained by the table
+		int tableIndex = -1;
+
+		// Property value when the bean was set, used for change tracking
+		protected TARGET originalValue;
+		protected boolean changed = false;
+
+		// Set if the field has not been updated with the bean value yet
+		protected boolean deferred = false;
+		protected Registration attachRegistration;
+
+		// Validation policy of this binding, null to use the policy of the binder
+		protected ValidationPolicy validationPolicy;
+
+		// Status returned by the last validation and its error message
+		protected BindingValidationStatus<TARGET> lastStatus;
+		protected String lastStatusError;
+
+		// Status last passed to the status handler, null if none has been passed
+		protected Status deliveredStatus;
+		protected String deliveredMessage;
+		protected BindingValidationStatus<?> deliveredInstance;
+
+		// Component error set by the default status handler, kept while the message is unchanged
+		protected UserError componentError;
+
 		protected BindingValidationStatusHandler statusHandler = s -> {
 			HasValue<?> field = s.getField();
 			if (s.getMessage().isPresent()) {
 				if (field instanceof AbstractComponent) {
-					((AbstractComponent) field).setComponentError(new UserError(s.getMessage().get()));
+					AbstractComponent component = (AbstractComponent) field;
+					String message = s.getMessage().get();
+					if (componentError == null || !message.equals(componentError.getMessage())) {
+						componentError = new UserError(message);
+					}
+					if (component.getComponentError() != componentError) {
+						component.setComponentError(componentError);
+					}
 				}
 			} else {
 				if (field instanceof AbstractComponent) {
@@ -94,13 +137,7 @@ public class BasicBinder<BEAN> {
 			this.property = property;
 			this.converterValidatorChain = converterValidatorChain;
 
-			registration = field.addValueChangeListener(e -> {
-				if (binder.getBean() != null) {
-					if (binder.fieldToBean(this)) {
-						binder.fireValueChangeEvent(e);
-					}
-				}
-			});
+			registration = field.addValueChangeListener(e -> binder.handleFieldValueChange(this, e));
 
 			if (setter == null) {
 				field.setReadOnly(true);
@@ -111,8 +148,22 @@ public class BasicBinder<BEAN> {
 			field.setReadOnly(setter == null || readOnly);
 		}
 
-		public void beanToField(BEAN bean) {
-			field.setValue(converterValidatorChain.convertToPresentation(getter.apply(bean), createValueContext()));
+		/**
+		 * Writes the property value of the bean to the field. The field is only
+		 * updated if the converted value differs from the current field value.
+		 *
+		 * @param bean
+		 *            the bean to read the property value from
+		 * @return {@code true} if the field value was updated, {@code false} if
+		 *         the field already showed the value
+		 */
+		public boolean beanToField(BEAN bean) {
+			FIELDVALUE value = converterValidatorChain.convertToPresentation(getter.apply(bean), createValueContext());
+			if (Objects.equals(value, field.getValue())) {
+				return false;
+			}
+			field.setValue(value);
+			return true;
 		}
 
 		@Override
@@ -212,17 +263,53 @@ public class BasicBinder<BEAN> {
 		//@Override
 		//@SuppressWarnings("deprecation")
 		public BindingValidationStatus<TARGET> validate(boolean fireEvent) {
-			BindingValidationStatus<TARGET> status = new BindingValidationStatus<TARGET>(this, hasError() ? Status.ERROR : Status.OK,
-					conversionError != null ? ValidationResult.error(conversionError)
-							: validationError != null ? ValidationResult.error(validationError)
-									: ValidationResult.ok());
+			String error = conversionError != null ? conversionError : validationError;
+			BindingValidationStatus<TARGET> status = lastStatus;
+			// Status objects are immutable, reuse the last one while the error is unchanged
+			if (status == null || !Objects.equals(error, lastStatusError)) {
+				status = new BindingValidationStatus<TARGET>(this, error != null ? Status.ERROR : Status.OK,
+						error != null ? ValidationResult.error(error) : OK);
+				lastStatus = status;
+				lastStatusError = error;
+			}
 			if (fireEvent) {
-				getValidationStatusHandler().statusChange(status);
+				deliverStatus(status);
 			}
 
 			return status;
 		}
 
+		/**
+		 * Passes a validation status to the status handler of this binding and
+		 * remembers it.
+		 *
+		 * @param status
+		 *            the status to deliver
+		 */
+		protected void deliverStatus(BindingValidationStatus<?> status) {
+			getValidationStatusHandler().statusChange(status);
+			deliveredStatus = status.getStatus();
+			deliveredMessage = status.getMessage().orElse(null);
+			deliveredInstance = status;
+		}
+
+		/**
+		 * Checks whether the given status equals the status last passed to the
+		 * status handler of this binding.
+		 *
+		 * @param status
+		 *            the status to check
+		 * @return {@code true} if the status and message equal the delivered
+		 *         status
+		 */
+		protected boolean isDeliveredStatus(BindingValidationStatus<?> status) {
+			if (deliveredInstance == status) {
+				return true;
+			}
+			return deliveredStatus == status.getStatus()
+					&& Objects.equals(deliveredMessage, status.getMessage().orElse(null));
+		}
+
 		// Since 8.2
 		//@Override
 		public BindingValidationStatusHandler getValidationStatusHandler() {
@@ -233,22 +320,128 @@ public class BasicBinder<BEAN> {
 		//@Override
 		public void unbind() {
 			registration.remove();
+			if (attachRegistration != null) {
+				attachRegistration.remove();
+				attachRegistration = null;
+			}
+		}
+
+		/**
+		 * Sets the validation policy of this binding, overriding the policy of
+		 * the binder.
+		 *
+		 * @param validationPolicy
+		 *            the policy, or {@code null} to use the policy of the binder
+		 * @see BasicBinder#setValidationPolicy(ValidationPolicy)
+		 */
+		public void setValidationPolicy(ValidationPolicy validationPolicy) {
+			this.validationPolicy = validationPolicy;
+		}
+
+		/**
+		 * Gets the validation policy set for this binding.
+		 *
+		 * @return the policy, or {@code null} if the policy of the binder is used
+		 */
+		public ValidationPolicy getValidationPolicy() {
+			return validationPolicy;
+		}
+
+		/**
+		 * Gets whether writing the bean value to the field has been deferred
+		 * until the field is attached.
+		 *
+		 * @return {@code true} if the field does not show the bean value yet
+		 * @see BasicBinder#setLazyActivation(boolean)
+		 */
+		public boolean isDeferred() {
+			return deferred;
 		}
 
 		// Since 8.2
 		//@Override
 		public void read(BEAN bean) {
+			assign(bean, convert());
+		}
+
+		/**
+		 * Converts the field value to the model type.
+		 *
+		 * @return the conversion result, or {@code null} if the field value is not
+		 *         written to the bean because the binding is read-only
+		 */
+		protected Result<TARGET> convert() {
 			if (setter == null || field.isReadOnly()) {
+				return null;
+			}
+			return converterValidatorChain.convertToModel(field.getValue(), createValueContext());
+		}
+
+		/**
+		 * Assigns a converted value to the bean property or records the conversion
+		 * error.
+		 *
+		 * @param bean
+		 *            the bean to write to
+		 * @param result
+		 *            the result of {@link #convert()}, {@code null} to do nothing
+		 */
+		protected void assign(BEAN bean, Result<TARGET> result) {
+			if (result == null) {
 				return;
 			}
-			Result<TARGET> result = converterValidatorChain.convertToModel(field.getValue(), createValueContext());
 			result.ifError(e -> setConversionError(e));
 			result.ifOk(e -> {
 				clearConversionError();
 				setter.accept(bean, e);
+				changed = !Objects.equals(e, originalValue);
 			});
 		}
 
+		/**
+		 * Takes a snapshot of the property value that later changes are compared
+		 * against.
+		 *
+		 * @param bean
+		 *            the bean to take the snapshot from, or {@code null} to clear
+		 *            the snapshot
+		 */
+		protected void snapshot(BEAN bean) {
+			originalValue = bean == null ? null : getter.apply(bean);
+			if (bean != null) {
+				// The field now shows the bean value, an earlier conversion error is stale
+				clearConversionError();
+			}
+			changed = false;
+		}
+
+		/**
+		 * Gets whether the property value has been changed through the field since
+		 * the bean was set. Changing the value back to its original value clears
+		 * the change.
+		 *
+		 * @return {@code true} if the property value differs from the original
+		 *         value
+		 */
+		public boolean isChanged() {
+			return changed;
+		}
+
+		/**
+		 * Restores the original property value in the bean and the field.
+		 *
+		 * @param bean
+		 *            the bean to restore the value in
+		 */
+		protected void reset(BEAN bean) {
+			if (setter != null) {
+				setter.accept(bean, originalValue);
+			}
+			beanToField(bean);
+			clearConversionError();
+			changed = false;
+		}
+
 		// Since 8.4
 		//@Override
 		public Setter<BEAN, TARGET> getSetter() {
@@ -267,44 +460,283 @@ public class BasicBinder<BEAN> {
 
 	protected Label statusLabel;
 
-	protected List<EasyBinding<BEAN, ?, ?>> bindings = new LinkedList<>();
+	protected BindingTable<BEAN> bindings = new BindingTable<>();
 	protected Map<String, EasyBinding<BEAN, ?, ?>> propertyToBindingMap = new HashMap<>();
 
 	protected Set<ConstraintViolation<BEAN>> constraintViolations;
 
-	protected boolean hasChanges = false;
-
-	protected Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+	protected Validator validator;
 
 	protected Class<?>[] groups = new Class<?>[0];
 
-	protected EventRouter eventRouter;
+	protected boolean incrementalValidation = false;
+
+	protected boolean skipUnchangedValidation = false;
+
+	protected boolean lazyActivation = false;
+
+	protected ConstraintViolationCache violationCache;
+
+	// Deferred and asynchronous validations
+	protected ValidationQueue<BEAN> validationQueue = new ValidationQueue<>(this);
+
+	// Set while the binder writes bean values to fields
+	protected boolean writingFields = false;
+
+	// Set while the binder writes field values to the bean
+	protected boolean writingBean = false;
+
+	// Properties whose field values the binder is writing to the bean
+	protected Set<String> writingProperties = new HashSet<>();
+
+	protected int updateDepth = 0;
+
+	protected Map<EasyBinding<BEAN, ?, ?>, ValueChangeEvent<?>> pendingFieldChanges = new LinkedHashMap<>();
+
+	protected boolean validationPending = false;
+
+	protected boolean statusChangePending = false;
+
+	protected boolean alwaysFireStatusChange = false;
+
+	// Status reported by the last status change event, null if none has been fired
+	protected BinderStatusChangeEvent lastStatusChangeEvent;
+
+	protected ListenerList<ValueChangeListener<?>> valueChangeListeners = new ListenerList<>();
+
+	protected ListenerList<BinderStatusChangeListener> statusChangeListeners = new ListenerList<>();
+
+	protected ListenerList<FieldCommitListener> fieldCommitListeners = new ListenerList<>();
 
 	protected BasicBinderValidationStatusHandler<BEAN> statusHandler;
 
 	protected BasicBinderValidationStatus<BEAN> status;
 
 	public BasicBinder() {
+		this(ValidatorRegistry.getInstance().getValidator());
+	}
+
+	/**
+	 * Creates a binder using the given validator instead of the shared validator
+	 * from {@link ValidatorRegistry}.
+	 *
+	 * @param validator
+	 *            the validator to use, not null
+	 */
+	public BasicBinder(Validator validator) {
+		this.validator = Objects.requireNonNull(validator, "Validator cannot be null");
 		validate();
 	}
 
+	/**
+	 * Sets the validator used by this binder and revalidates the current bean.
+	 *
+	 * @param validator
+	 *            the validator to use, not null
+	 */
+	public void setValidator(Validator validator) {
+		this.validator = Objects.requireNonNull(validator, "Validator cannot be null");
+		validate();
+	}
+
+	/**
+	 * Gets the validator used by this binder.
+	 *
+	 * @return the validator, not null
+	 */
+	public Validator getValidator() {
+		return validator;
+	}
+
 	public void setBean(BEAN bean) {
+		BEAN previousBean = this.bean;
 		this.bean = null;
+		// Field changes made before the bean is replaced are overwritten
+		pendingFieldChanges.clear();
+		validationQueue.cancel();
+
+		List<EasyBinding<BEAN, ?, ?>> changedBindings = null;
+		if (bean != null && previousBean != null && canSkipUnchangedValidation(previousBean, bean)) {
+			changedBindings = new ArrayList<>();
+			for (int i = 0; i < bindings.size(); i++) {
+				EasyBinding<BEAN, ?, ?> binding = bindings.get(i);
+				// A value that may have been modified in place is treated as changed
+				Object value = binding.getter.apply(bean);
+				if (!ImmutableValues.isImmutable(value) || !Objects.equals(binding.getter.apply(previousBean), value)) {
+					changedBindings.add(binding);
+				}
+			}
+		}
 
 		if (bean != null) {
-			bindings.forEach(e -> e.beanToField(bean));
+			bindings.forEach(e -> {
+				if (lazyActivation && isDetached(e.getField())) {
+					defer(e);
+				} else {
+					e.deferred = false;
+					e.beanToField(bean);
+				}
+			});
+		} else {
+			bindings.forEach(e -> e.deferred = false);
 		}
+		bindings.forEach(e -> e.snapshot(bean));
 
 		this.bean = bean;
-		validate();
+		if (changedBindings != null) {
+			validateProperties(changedBindings);
+		} else {
+			validate();
+		}
 		fireStatusChangeEvent();
-		hasChanges = false;
 	}
 
 	public BEAN getBean() {
 		return bean;
 	}
 
+	/**
+	 * Refreshes the fields of the given properties from the current bean.
+	 *
+	 * @param properties
+	 *            the names of the properties to refresh
+	 * @see #refreshFields(Predicate)
+	 */
+	public void refreshFields(String... properties) {
+		Set<String> names = new HashSet<>(Arrays.asList(properties));
+		refreshFields(names::contains);
+	}
+
+	/**
+	 * Refreshes the fields of the properties matching the given filter from the
+	 * current bean, e.g. after a service has updated some properties of the bean.
+	 * <p>
+	 * Unlike {@link #setBean(Object)} only the matching fields are updated and
+	 * only the matching properties are validated, if they can be validated in
+	 * isolation. The refreshed properties are no longer considered changed, the
+	 * changes of all other properties are kept.
+	 *
+	 * @param filter
+	 *            selects the names of the properties to refresh
+	 */
+	public void refreshFields(Predicate<String> filter) {
+		if (getBean() == null) {
+			return;
+		}
+		List<EasyBinding<BEAN, ?, ?>> refreshed = new ArrayList<>();
+		bindings.forEach(e -> {
+			if (e.property != null && filter.test(e.property)) {
+				refreshed.add(e);
+			}
+		});
+		if (refreshed.isEmpty()) {
+			return;
+		}
+
+		for (EasyBinding<BEAN, ?, ?> binding : refreshed) {
+			pendingFieldChanges.remove(binding);
+			if (lazyActivation && isDetached(binding.getField())) {
+				defer(binding);
+			} else {
+				binding.deferred = false;
+				writeField(binding);
+			}
+			binding.snapshot(getBean());
+		}
+
+		if (refreshed.stream().allMatch(e -> isIsolated(e, getBean().getClass()))) {
+			validateProperties(refreshed);
+		} else {
+			validate();
+		}
+		fireStatusChangeEvent();
+	}
+
+	/**
+	 * Starts a batch update.
+	 * <p>
+	 * Until the matching {@link #commitUpdate()} field changes are only recorded:
+	 * conversion, validation, status change events and value change events are
+	 * deferred until the update is committed. Calls may be nested, the update is
+	 * committed when the outermost update is committed.
+	 *
+	 * @see #commitUpdate()
+	 * @see #batch(Runnable)
+	 */
+	public void beginUpdate() {
+		updateDepth++;
+	}
+
+	/**
+	 * Commits a batch update started with {@link #beginUpdate()}.
+	 * <p>
+	 * When the outermost update is committed all changed fields are written to
+	 * the bean, the bean is validated once and a single status change event is
+	 * fired followed by one value change event per changed field.
+	 *
+	 * @throws IllegalStateException
+	 *             if no update is in progress
+	 */
+	public void commitUpdate() {
+		if (updateDepth == 0) {
+			throw new IllegalStateException("No update in progress");
+		}
+		if (--updateDepth > 0) {
+			return;
+		}
+
+		List<ValueChangeEvent<?>> events = new ArrayList<>(pendingFieldChanges.size());
+		if (getBean() != null) {
+			pendingFieldChanges.forEach((binding, event) -> {
+				readField(binding);
+				if (!binding.hasConversionError()) {
+					events.add(event);
+				}
+			});
+		}
+		if (!pendingFieldChanges.isEmpty()) {
+			pendingFieldChanges.clear();
+			validationPending = true;
+			statusChangePending = true;
+		}
+
+		if (validationPending) {
+			validationPending = false;
+			validate();
+		}
+		if (statusChangePending) {
+			statusChangePending = false;
+			fireStatusChangeEvent();
+		}
+		events.forEach(this::fireValueChangeEvent);
+	}
+
+	/**
+	 * Runs the given updates as a single batch update.
+	 *
+	 * @param updates
+	 *            the updates to run
+	 * @see #beginUpdate()
+	 */
+	public void batch(Runnable updates) {
+		beginUpdate();
+		try {
+			updates.run();
+		} finally {
+			commitUpdate();
+		}
+	}
+
+	/**
+	 * Gets whether a batch update is in progress.
+	 *
+	 * @return {@code true} if a batch update is in progress
+	 * @see #beginUpdate()
+	 */
+	public boolean isUpdating() {
+		return updateDepth > 0;
+	}
+
 	public void removeBean() {
 		setBean(null);
 	}
@@ -324,9 +756,267 @@ public class BasicBinder<BEAN> {
 	}
 
 	public boolean isValid() {
+		flushValidation();
 		return constraintViolations.isEmpty();
 	}
 
+	/**
+	 * Enables asynchronous validation using a default executor backed by daemon
+	 * threads.
+	 *
+	 * @param snapshot
+	 *            creates a copy of the bean that is validated in the background
+	 * @see #setAsyncValidation(Executor, SerializableFunction)
+	 */
+	public void setAsyncValidation(SerializableFunction<BEAN, BEAN> snapshot) {
+		setAsyncValidation(ValidationExecutors.getDefaultExecutor(), snapshot);
+	}
+
+	/**
+	 * Enables or disables asynchronous validation.
+	 * <p>
+	 * When enabled, full bean validations triggered while a UI is current are
+	 * run by the given executor, so constraints doing expensive work (e.g.
+	 * database lookups) do not hold the session lock. The bean is copied with
+	 * the snapshot function before it is handed to the executor, as the bean
+	 * itself may be modified while the validation is running. The result is
+	 * applied using {@link UI#access(Runnable)} and discarded if
+	 * a newer validation has been started in the meantime. Properties are not
+	 * validated incrementally while asynchronous validation is enabled.
+	 * <p>
+	 * While a validation is running {@link BinderStatusChangeEvent#isValidationPending()}
+	 * is {@code true} and the validation status reflects the previous
+	 * validation. {@link #isValid()} and {@link #flushValidation()} validate
+	 * synchronously if a validation is pending. Without a current UI, e.g. in
+	 * background threads or tests, or if the executor rejects the validation,
+	 * the bean is validated synchronously. A validation whose UI has been
+	 * detached when it completes is dropped and no longer pending.
+	 *
+	 * @param executor
+	 *            the executor to run validations with, or {@code null} to
+	 *            validate synchronously
+	 * @param snapshot
+	 *            creates a copy of the bean that is validated by the executor,
+	 *            not null if an executor is given
+	 */
+	public void setAsyncValidation(Executor executor, SerializableFunction<BEAN, BEAN> snapshot) {
+		if (executor != null) {
+			Objects.requireNonNull(snapshot, "snapshot cannot be null");
+		}
+		flushValidation();
+		validationQueue.setAsyncValidation(executor, snapshot);
+	}
+
+	/**
+	 * Gets whether asynchronous validation is enabled.
+	 *
+	 * @return {@code true} if bean validation is run by an executor
+	 * @see #setAsyncValidation(Executor, SerializableFunction)
+	 */
+	public boolean isAsyncValidation() {
+		return validationQueue.isAsyncValidation();
+	}
+
+	/**
+	 * Gets whether an asynchronous validation is running.
+	 *
+	 * @return {@code true} if the validation status is not up to date
+	 */
+	public boolean isValidationPending() {
+		return validationQueue.isAsyncValidationPending();
+	}
+
+	/**
+	 * Runs the validations deferred by validation policies and validates the
+	 * bean synchronously if an asynchronous validation is pending. The result
+	 * of the pending validation is discarded.
+	 */
+	public void flushValidation() {
+		validationQueue.flush();
+	}
+
+	/**
+	 * Enables or disables incremental validation.
+	 * <p>
+	 * When enabled, a field change only validates the property bound to the
+	 * changed field (using {@link Validator#validateProperty(Object, String, Class...)})
+	 * and only updates the validation status of the affected binding. A full
+	 * validation of the bean is still performed by {@link #setBean(Object)},
+	 * when the validation groups are changed and whenever the changed property
+	 * cannot be validated in isolation, i.e. if the bean class has class level
+	 * constraints, the property is nested or cascaded.
+	 * <p>
+	 * Incremental validation is disabled by default.
+	 *
+	 * @param incrementalValidation
+	 *            {@code true} to enable incremental validation, {@code false} to
+	 *            always validate the entire bean
+	 */
+	public void setIncrementalValidation(boolean incrementalValidation) {
+		this.incrementalValidation = incrementalValidation;
+	}
+
+	/**
+	 * Gets whether incremental validation is enabled.
+	 *
+	 * @return {@code true} if incremental validation is enabled, {@code false}
+	 *         otherwise
+	 * @see #setIncrementalValidation(boolean)
+	 */
+	public boolean isIncrementalValidation() {
+		return incrementalValidation;
+	}
+
+	/**
+	 * Enables or disables skipping validation of unchanged properties when
+	 * switching beans.
+	 * <p>
+	 * When enabled, {@link #setBean(Object)} only validates the properties whose
+	 * value differs between the previous and the new bean and keeps the
+	 * validation status of the other properties. Values not known to be
+	 * immutable (see {@link ImmutableValues}) are always considered changed.
+	 * This makes stepping through many beans of the same class, e.g. in a
+	 * master-detail view, cheaper. The entire bean is still validated if there
+	 * is no previous bean, the same bean is set again, the bean class changes,
+	 * the bean class has class level constraints, or if any constrained
+	 * property is unbound, nested or cascaded.
+	 * <p>
+	 * Retained constraint violations refer to the previous bean as their root
+	 * bean. Constraints whose outcome does not only depend on the property
+	 * value, such as {@code @Future}, are not re-evaluated for unchanged
+	 * properties.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @param skipUnchangedValidation
+	 *            {@code true} to only validate changed properties when switching
+	 *            beans, {@code false} to always validate the entire bean
+	 */
+	public void setSkipUnchangedValidation(boolean skipUnchangedValidation) {
+		this.skipUnchangedValidation = skipUnchangedValidation;
+	}
+
+	/**
+	 * Gets whether validation of unchanged properties is skipped when switching
+	 * beans.
+	 *
+	 * @return {@code true} if only changed properties are validated
+	 * @see #setSkipUnchangedValidation(boolean)
+	 */
+	public boolean isSkipUnchangedValidation() {
+		return skipUnchangedValidation;
+	}
+
+	/**
+	 * Sets the validation policy of all bindings not having their own policy.
+	 * <p>
+	 * With a policy other than {@link ValidationPolicy#immediate()} a field
+	 * change is still converted and written to the bean immediately, but the
+	 * validation and the status notifications (binding status handlers and
+	 * status change listeners) are deferred. This avoids validating on every
+	 * server roundtrip of fields with an eager or lazy value change mode.
+	 * Deferred validations are run by {@link #flushValidation()}, which is also
+	 * called by {@link #isValid()}, so the validity of the bean is always up to
+	 * date. Deferred validations are discarded when a new bean is set.
+	 *
+	 * @param validationPolicy
+	 *            the policy, not null
+	 * @see EasyBinding#setValidationPolicy(ValidationPolicy)
+	 */
+	public void setValidationPolicy(ValidationPolicy validationPolicy) {
+		validationQueue.setValidationPolicy(validationPolicy);
+	}
+
+	public ValidationPolicy getValidationPolicy() {
+		return validationQueue.getValidationPolicy();
+	}
+
+	/**
+	 * Sets the scheduler running the timers of debounce policies.
+	 *
+	 * @param validationScheduler
+	 *            the scheduler, or {@code null} to use a shared default
+	 *            scheduler
+	 */
+	public void setValidationScheduler(ScheduledExecutorService validationScheduler) {
+		validationQueue.setValidationScheduler(validationScheduler);
+	}
+
+	/**
+	 * Enables or disables lazy activation of fields that are not attached.
+	 * <p>
+	 * When enabled, {@link #setBean(Object)} does not write the bean value to
+	 * bound components that are not attached to a UI, e.g. fields on a hidden
+	 * tab. The value is written when the component is attached. Validation
+	 * still covers the entire bean, so {@link #isValid()} and the validation
+	 * status are not affected. Setting a value in a deferred field cancels the
+	 * pending update.
+	 * <p>
+	 * Lazy activation is disabled by default.
+	 *
+	 * @param lazyActivation
+	 *            {@code true} to defer updating detached fields
+	 * @see EasyBinding#isDeferred()
+	 */
+	public void setLazyActivation(boolean lazyActivation) {
+		this.lazyActivation = lazyActivation;
+	}
+
+	/**
+	 * Gets whether lazy activation of detached fields is enabled.
+	 *
+	 * @return {@code true} if updating detached fields is deferred
+	 * @see #setLazyActivation(boolean)
+	 */
+	public boolean isLazyActivation() {
+		return lazyActivation;
+	}
+
+	protected boolean isDetached(HasValue<?> field) {
+		return field instanceof Component && !((Component) field).isAttached();
+	}
+
+	protected void defer(EasyBinding<BEAN, ?, ?> binding) {
+		binding.deferred = true;
+		if (binding.attachRegistration == null) {
+			binding.attachRegistration = ((Component) binding.getField()).addAttachListener(e -> activate(binding));
+		}
+	}
+
+	/**
+	 * Writes the bean value to a deferred field.
+	 *
+	 * @param binding
+	 *            the binding to activate
+	 */
+	protected void activate(EasyBinding<BEAN, ?, ?> binding) {
+		if (!binding.deferred) {
+			return;
+		}
+		binding.deferred = false;
+		if (getBean() != null) {
+			writeField(binding);
+		}
+	}
+
+	/**
+	 * Writes the bean value to the field of the given binding without writing
+	 * it back to the bean.
+	 *
+	 * @param binding
+	 *            the binding to update
+	 * @return {@code true} if the field value was changed
+	 */
+	protected boolean writeField(EasyBinding<BEAN, ?, ?> binding) {
+		boolean writing = writingFields;
+		writingFields = true;
+		try {
+			return binding.beanToField(getBean());
+		} finally {
+			writingFields = writing;
+		}
+	}
+
 	public <FIELDVALUE, TARGET> EasyBinding<BEAN, FIELDVALUE, FIELDVALUE> bind(HasValue<FIELDVALUE> field,
 			ValueProvider<BEAN, FIELDVALUE> getter, Setter<BEAN, FIELDVALUE> setter, String property) {
 		return bind(field, getter, setter, property, Converter.identity());
@@ -358,6 +1048,7 @@ public class BasicBinder<BEAN> {
 		}
 
 		if (getBean() != null) {
+			binding.snapshot(getBean());
 			if (fieldToBean(binding)) {
 				// TODO: should this be fired?
 				// fireValueChangeEvent(e);
@@ -370,15 +1061,20 @@ public class BasicBinder<BEAN> {
 	}
 
 	public void removeAllBindings() {
-		while (!bindings.isEmpty()) {
-			EasyBinding<BEAN, ?, ?> binding = bindings.remove(0);
-			binding.getProperty().ifPresent(e -> propertyToBindingMap.remove(e));
-			binding.unbind();
-		}
+		pendingFieldChanges.clear();
+		validationQueue.clear();
+		bindings.forEach(e -> e.unbind());
+		bindings.clear();
+		propertyToBindingMap.clear();
+		validate();
+		fireStatusChangeEvent();
 	}
 
 	public void removeBinding(HasValue<?> field) {
-		bindings.stream().filter(e -> e.getField().equals(field)).findFirst().ifPresent(e -> clearBinding(e));
+		EasyBinding<BEAN, ?, ?> binding = bindings.getBinding(field);
+		if (binding != null) {
+			clearBinding(binding);
+		}
 		validate();
 	}
 
@@ -394,10 +1090,14 @@ public class BasicBinder<BEAN> {
 	}
 
 	protected <FIELDVALUE, TARGET> void clearBinding(EasyBinding<BEAN, FIELDVALUE, TARGET> binding) {
+		pendingFieldChanges.remove(binding);
 		if (bindings.remove(binding)) {
 			binding.unbind();
 		}
-		binding.getProperty().ifPresent(e -> propertyToBindingMap.remove(e));
+		validationQueue.remove(binding);
+		if (binding.property != null && propertyToBindingMap.get(binding.property) == binding) {
+			propertyToBindingMap.remove(binding.property);
+		}
 	}
 
 	public Stream<HasValue<?>> getFields() {
@@ -411,36 +1111,306 @@ public class BasicBinder<BEAN> {
 			// Bean level validation error
 		} else {
 			// Field validation error
-			Optional.ofNullable(propertyToBindingMap.get(property)).ifPresent(e -> e.setValidationError(f.apply(v)));
+			EasyBinding<BEAN, ?, ?> binding = propertyToBindingMap.get(property);
+			if (binding != null) {
+				binding.setValidationError(f.apply(v));
+			}
 		}
 	}
 
 	protected void validate() {
-		// Clear all validation errors
-		propertyToBindingMap.values().stream().forEach(e -> e.clearValidationError());
+		if (isUpdating()) {
+			validationPending = true;
+			return;
+		}
+		if (validationQueue.startValidation()) {
+			return;
+		}
 
-		// Validate and set validation errors
 		if (getBean() != null) {
-			constraintViolations = validator.validate(getBean(), groups);
-			constraintViolations.stream().forEach(e -> handleConstraintViolations(e, f -> f.getMessage()));
+			applyConstraintViolations(isPropertyValidationPreferred() && isFullyBound(getBean().getClass())
+					? validateBoundProperties()
+					: validator.validate(getBean(), groups));
 		} else {
-			constraintViolations = new HashSet<ConstraintViolation<BEAN>>();
+			applyConstraintViolations(Collections.emptySet());
+		}
+	}
+
+	/**
+	 * Makes the given constraint violations the current validation result and
+	 * notifies the validation status handler.
+	 *
+	 * @param violations
+	 *            the constraint violations of the bean
+	 */
+	protected void applyConstraintViolations(Set<ConstraintViolation<BEAN>> violations) {
+		// Clear all validation errors
+		for (EasyBinding<BEAN, ?, ?> binding : propertyToBindingMap.values()) {
+			binding.clearValidationError();
 		}
 
-		List<BindingValidationStatus<?>> binRes =
-				getBindings().stream().map(e -> e.validate(false)).collect(Collectors.toList());
+		// Set validation errors
+		constraintViolations = violations;
+		List<ValidationResult> valRes = Collections.emptyList();
+		for (ConstraintViolation<BEAN> violation : constraintViolations) {
+			handleConstraintViolations(violation, ConstraintViolation::getMessage);
+			if (violation.getPropertyPath().toString().isEmpty()) {
+				if (valRes.isEmpty()) {
+					valRes = new ArrayList<>();
+				}
+				valRes.add(ValidationResult.error(violation.getMessage()));
+			}
+		}
 
-		List<ValidationResult> valRes =
-				constraintViolations.stream()
-				.filter(e -> e.getPropertyPath().toString().isEmpty())
-				.map(e -> ValidationResult.error(e.getMessage()))
-				.collect(Collectors.toList());
+		List<BindingValidationStatus<?>> binRes = new ArrayList<>(bindings.size());
+		bindings.forEach(e -> binRes.add(e.validate(false)));
 
 		status = new BasicBinderValidationStatus<BEAN>(this, binRes, valRes);
 
 		getValidationStatusHandler().statusChange(status);
 	}
 
+	/**
+	 * Validates the property bound by the given binding.
+	 * <p>
+	 * If incremental validation is enabled and the property can be validated in
+	 * isolation only the constraints of this property are evaluated and only the
+	 * status of the given binding is updated, otherwise the entire bean is
+	 * validated.
+	 *
+	 * @param binding
+	 *            the binding whose property has changed
+	 * @see #setIncrementalValidation(boolean)
+	 */
+	protected void validate(EasyBinding<BEAN, ?, ?> binding) {
+		if (isUpdating()) {
+			validationPending = true;
+			return;
+		}
+		if (indexOfBindingStatus(binding) == -1 || !canValidateIncrementally(binding)
+				|| validationQueue.isAsyncValidation()) {
+			validate();
+			return;
+		}
+		validateProperties(Collections.singletonList(binding));
+	}
+
+	/**
+	 * Validates only the properties of the given bindings and keeps the
+	 * validation status of all other bindings. All given bindings must be
+	 * isolated as checked by {@link #canValidateIncrementally(EasyBinding)} and
+	 * be part of the current validation status, otherwise the entire bean is
+	 * validated.
+	 *
+	 * @param changedBindings
+	 *            the bindings whose property has changed
+	 */
+	protected void validateProperties(List<EasyBinding<BEAN, ?, ?>> changedBindings) {
+		if (isUpdating()) {
+			validationPending = true;
+			return;
+		}
+		if (validationQueue.isAsyncValidation()) {
+			// A running asynchronous validation could overwrite the scoped result
+			validate();
+			return;
+		}
+		int[] indexes = new int[changedBindings.size()];
+		for (int i = 0; i < indexes.length; i++) {
+			indexes[i] = indexOfBindingStatus(changedBindings.get(i));
+			if (indexes[i] == -1) {
+				validate();
+				return;
+			}
+		}
+
+		Set<ConstraintViolation<BEAN>> violations = new HashSet<>(constraintViolations);
+		List<BindingValidationStatus<?>> binRes = new ArrayList<>(status.getFieldValidationStatuses());
+		for (int i = 0; i < indexes.length; i++) {
+			EasyBinding<BEAN, ?, ?> binding = changedBindings.get(i);
+			String property = binding.property;
+			Set<ConstraintViolation<BEAN>> propertyViolations = validateProperty(binding);
+
+			// Replace the violations previously reported for this property
+			violations.removeIf(e -> property.equals(e.getPropertyPath().toString()));
+			violations.addAll(propertyViolations);
+
+			binding.clearValidationError();
+			propertyViolations.forEach(e -> handleConstraintViolations(e, f -> f.getMessage()));
+			binRes.set(indexes[i], binding.validate(false));
+		}
+		constraintViolations = violations;
+
+		status = new BasicBinderValidationStatus<BEAN>(this, binRes, status.getBeanValidationResults());
+
+		getValidationStatusHandler().statusChange(status);
+	}
+
+	/**
+	 * Checks whether the property of the given binding can be validated without
+	 * validating the rest of the bean.
+	 *
+	 * @param binding
+	 *            the binding to check
+	 * @return {@code true} if the property can be validated in isolation
+	 */
+	protected boolean canValidateIncrementally(EasyBinding<BEAN, ?, ?> binding) {
+		return incrementalValidation && getBean() != null && isIsolated(binding, getBean().getClass());
+	}
+
+	/**
+	 * Checks whether switching from one bean to the other can skip validation
+	 * of the properties that did not change.
+	 *
+	 * @param previousBean
+	 *            the bean currently set
+	 * @param bean
+	 *            the bean about to be set
+	 * @return {@code true} if only changed properties need to be validated
+	 * @see #setSkipUnchangedValidation(boolean)
+	 */
+	protected boolean canSkipUnchangedValidation(BEAN previousBean, BEAN bean) {
+		// The same bean may have been modified outside the binder
+		if (!skipUnchangedValidation || status == null || previousBean == bean
+				|| previousBean.getClass() != bean.getClass()) {
+			return false;
+		}
+		if (!isFullyBound(bean.getClass())) {
+			return false;
+		}
+		for (int i = 0; i < bindings.size(); i++) {
+			if (!isIsolated(bindings.get(i), bean.getClass())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether validating the bound properties one by one gives the same
+	 * result as validating the entire bean, i.e. the bean class has no class
+	 * level constraints, no group sequences are involved and every constrained
+	 * property is bound and not cascaded.
+	 *
+	 * @param beanClass
+	 *            the bean class to check
+	 * @return {@code true} if the bean can be validated property by property
+	 */
+	protected boolean isFullyBound(Class<?> beanClass) {
+		BeanDescriptor descriptor = validator.getConstraintsForClass(beanClass);
+		if (!descriptor.getConstraintDescriptors().isEmpty() || hasGroupSequence(beanClass)
+				|| Arrays.stream(groups).anyMatch(this::hasGroupSequence)) {
+			return false;
+		}
+		// Violations of unbound properties are not tracked per binding
+		for (PropertyDescriptor propertyDescriptor : descriptor.getConstrainedProperties()) {
+			if (!propertyToBindingMap.containsKey(propertyDescriptor.getPropertyName())
+					|| propertyDescriptor.isCascaded()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// A sequence stops at the first group with violations anywhere in the bean
+	private boolean hasGroupSequence(Class<?> type) {
+		return Arrays.stream(type.getAnnotations()).anyMatch(e -> e instanceof GroupSequence
+				|| e.annotationType().getName().equals("org.hibernate.validator.group.GroupSequenceProvider"));
+	}
+
+	/**
+	 * Checks whether a full validation should validate the bound properties one
+	 * by one with {@link #validateProperty(EasyBinding)} if the bean allows it,
+	 * see {@link #isFullyBound(Class)}.
+	 *
+	 * @return {@code true} if property validation is preferred, by default if a
+	 *         constraint violation cache has been set
+	 */
+	protected boolean isPropertyValidationPreferred() {
+		return violationCache != null;
+	}
+
+	/**
+	 * Validates the property of the given binding, using the constraint violation
+	 * cache if one has been set.
+	 *
+	 * @param binding
+	 *            the binding of the property to validate
+	 * @return the constraint violations of the property
+	 */
+	protected Set<ConstraintViolation<BEAN>> validateProperty(EasyBinding<BEAN, ?, ?> binding) {
+		if (violationCache != null) {
+			return violationCache.validateProperty(validator, getBean(), binding.property,
+					binding.getter.apply(getBean()), groups);
+		}
+		return validator.validateProperty(getBean(), binding.property, groups);
+	}
+
+	private Set<ConstraintViolation<BEAN>> validateBoundProperties() {
+		Set<ConstraintViolation<BEAN>> violations = new HashSet<>();
+		for (PropertyDescriptor propertyDescriptor : validator.getConstraintsForClass(getBean().getClass())
+				.getConstrainedProperties()) {
+			violations.addAll(validateProperty(propertyToBindingMap.get(propertyDescriptor.getPropertyName())));
+		}
+		return violations;
+	}
+
+	/**
+	 * Sets a cache of property level constraint violations. When set, properties
+	 * are validated one by one using the cache whenever possible, see
+	 * {@link ConstraintViolationCache} for the properties that are always
+	 * validated directly. If the bean class has class level constraints or
+	 * constrained properties that are unbound or cascaded, a full validation of
+	 * the bean does not use the cache.
+	 * <p>
+	 * No cache is used by default.
+	 *
+	 * @param violationCache
+	 *            the cache to use, or {@code null} to validate without a cache
+	 */
+	public void setConstraintViolationCache(ConstraintViolationCache violationCache) {
+		this.violationCache = violationCache;
+	}
+
+	/**
+	 * Gets the cache of property level constraint violations.
+	 *
+	 * @return the cache, or {@code null} if none has been set
+	 * @see #setConstraintViolationCache(ConstraintViolationCache)
+	 */
+	public ConstraintViolationCache getConstraintViolationCache() {
+		return violationCache;
+	}
+
+	private boolean isIsolated(EasyBinding<BEAN, ?, ?> binding, Class<?> beanClass) {
+		if (binding.property == null || binding.property.indexOf('.') != -1
+				|| propertyToBindingMap.get(binding.property) != binding) {
+			return false;
+		}
+		BeanDescriptor descriptor = validator.getConstraintsForClass(beanClass);
+		if (!descriptor.getConstraintDescriptors().isEmpty() || hasGroupSequence(beanClass)
+				|| Arrays.stream(groups).anyMatch(this::hasGroupSequence)) {
+			// Class level constraints and group sequences may depend on any property
+			return false;
+		}
+		PropertyDescriptor propertyDescriptor = descriptor.getConstraintsForProperty(binding.property);
+		return propertyDescriptor == null
+				|| !propertyDescriptor.isCascaded() && !hasGroupSequence(propertyDescriptor.getElementClass());
+	}
+
+	private int indexOfBindingStatus(EasyBinding<BEAN, ?, ?> binding) {
+		if (status == null) {
+			return -1;
+		}
+		List<BindingValidationStatus<?>> statuses = status.getFieldValidationStatuses();
+		for (int i = 0; i < statuses.size(); i++) {
+			if (statuses.get(i).getBinding() == binding) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
 	/**
 	 * Gets the status label or an empty optional if none has been set.
 	 *
@@ -477,58 +1447,153 @@ public class BasicBinder<BEAN> {
 	 * @return a registration for the listener
 	 */
 	public Registration addValueChangeListener(ValueChangeListener<?> listener) {
-		return getEventRouter().addListener(ValueChangeEvent.class, listener,
-				ValueChangeListener.class.getDeclaredMethods()[0]);
-	}
-
-	/**
-	 * Returns the event router for this binder.
-	 *
-	 * @return the event router, not null
-	 */
-	protected EventRouter getEventRouter() {
-		if (eventRouter == null) {
-			eventRouter = new EventRouter();
-		}
-		return eventRouter;
+		return valueChangeListeners.add(listener);
 	}
 
 	/**
 	 * Adds status change listener to the binder.
 	 * <p>
-	 * The {@link Binder} status is changed whenever any of the following happens:
+	 * The {@link Binder} status is re-evaluated whenever any of the following
+	 * happens:
 	 * <ul>
 	 * <li>if it's bound and any of its bound field or select has been changed
 	 * <li>{@link #setBean(Object)} is called
 	 * <li>{@link #removeBean()} is called
 	 * <li>{@link #bind(HasValue, ValueProvider, Setter, String)} is called
 	 * </ul>
+	 * An event is only fired if the conversion or validation error state differs
+	 * from the state reported by the previous event, unless
+	 * {@link #setAlwaysFireStatusChange(boolean)} is enabled.
 	 *
 	 * @see #setBean(Object)
 	 * @see #removeBean()
+	 * @see #setAlwaysFireStatusChange(boolean)
 	 *
 	 * @param listener
 	 *            status change listener to add, not null
 	 * @return a registration for the listener
 	 */
 	public Registration addStatusChangeListener(BinderStatusChangeListener listener) {
-		return getEventRouter().addListener(BinderStatusChangeEvent.class, listener,
-				BinderStatusChangeListener.class.getDeclaredMethods()[0]);
+		return statusChangeListeners.add(listener);
 	}
 
+	/**
+	 * Gets whether any bound property has been changed since the bean was set.
+	 * <p>
+	 * A property counts as changed if its value differs from the value it had
+	 * when {@link #setBean(Object)} was called, or if its field holds a value
+	 * that could not be converted.
+	 *
+	 * @return {@code true} if there are unsaved changes
+	 * @see #getChangedProperties()
+	 */
 	public boolean getHasChanges() {
-		return hasChanges;
+		return getBean() != null && bindings.anyMatch(e -> e.isChanged() || e.hasConversionError());
 	}
 
+	/**
+	 * Gets the names of the properties whose value differs from the value they
+	 * had when {@link #setBean(Object)} was called.
+	 *
+	 * @return the changed properties in binding order
+	 */
+	public Set<String> getChangedProperties() {
+		Set<String> changedProperties = new LinkedHashSet<>();
+		bindings.forEach(e -> {
+			if (e.property != null && e.isChanged()) {
+				changedProperties.add(e.property);
+			}
+		});
+		return changedProperties;
+	}
+
+	/**
+	 * Restores the value a property had when {@link #setBean(Object)} was called,
+	 * both in the bean and in the bound field. The restored field value is not
+	 * committed back to the bean and no value change event is fired.
+	 *
+	 * @param propertyName
+	 *            the name of the property to reset
+	 * @throws IllegalArgumentException
+	 *             if the property is not bound
+	 */
+	public void resetProperty(String propertyName) {
+		EasyBinding<BEAN, ?, ?> binding = getBinding(propertyName)
+				.orElseThrow(() -> new IllegalArgumentException("Property " + propertyName + " is not bound"));
+		if (getBean() == null) {
+			return;
+		}
+		pendingFieldChanges.remove(binding);
+		boolean writing = writingFields;
+		writingFields = true;
+		try {
+			writeToBean(binding, binding::reset);
+		} finally {
+			writingFields = writing;
+		}
+		validate(binding);
+		binding.validate(true);
+		fireStatusChangeEvent();
+	}
+
+	@SuppressWarnings("unchecked")
 	protected <V> void fireValueChangeEvent(ValueChangeEvent<V> event) {
-		hasChanges = true;
-		getEventRouter().fireEvent(event);
+		valueChangeListeners.forEach(listener -> ((ValueChangeListener<V>) listener).valueChange(event));
+	}
+
+	/**
+	 * Sets whether a status change event is fired every time the status is
+	 * re-evaluated, even if it has not changed since the previous event.
+	 * <p>
+	 * By default events are only fired when the status changes.
+	 *
+	 * @param alwaysFireStatusChange
+	 *            {@code true} to fire an event on every re-evaluation
+	 */
+	public void setAlwaysFireStatusChange(boolean alwaysFireStatusChange) {
+		this.alwaysFireStatusChange = alwaysFireStatusChange;
+	}
+
+	/**
+	 * Gets whether a status change event is fired every time the status is
+	 * re-evaluated.
+	 *
+	 * @return {@code true} if an event is fired on every re-evaluation
+	 * @see #setAlwaysFireStatusChange(boolean)
+	 */
+	public boolean isAlwaysFireStatusChange() {
+		return alwaysFireStatusChange;
 	}
 
 	protected void fireStatusChangeEvent() {
-		boolean hasConversionErrors = bindings.stream().anyMatch(e -> e.hasConversionError());
-		getEventRouter()
-				.fireEvent(new BinderStatusChangeEvent(this, hasConversionErrors, !constraintViolations.isEmpty()));
+		fireStatusChangeEvent(alwaysFireStatusChange);
+	}
+
+	/**
+	 * Fires a status change event if the status has changed since the last
+	 * fired event.
+	 *
+	 * @param force
+	 *            {@code true} to fire the event even if the status has not
+	 *            changed
+	 */
+	protected void fireStatusChangeEvent(boolean force) {
+		if (isUpdating()) {
+			statusChangePending = true;
+			return;
+		}
+		boolean hasConversionErrors = bindings.anyMatch(EasyBinding::hasConversionError);
+		boolean hasValidationErrors = !constraintViolations.isEmpty();
+		if (!force && lastStatusChangeEvent != null
+				&& lastStatusChangeEvent.hasConversionErrors() == hasConversionErrors
+				&& lastStatusChangeEvent.hasValidationErrors() == hasValidationErrors
+				&& lastStatusChangeEvent.isValidationPending() == validationQueue.isAsyncValidationPending()) {
+			return;
+		}
+		lastStatusChangeEvent = new BinderStatusChangeEvent(this, hasConversionErrors, hasValidationErrors,
+				validationQueue.isAsyncValidationPending());
+		BinderStatusChangeEvent event = lastStatusChangeEvent;
+		statusChangeListeners.forEach(listener -> listener.statusChange(event));
 	}
 
 	public Optional<EasyBinding<BEAN, ?, ?>> getBinding(String propertyName) {
@@ -537,28 +1602,170 @@ public class BasicBinder<BEAN> {
 	}
 
 	public void setReadonly(boolean readOnly) {
-		bindings.stream().forEach(e -> e.setReadOnly(readOnly));
+		bindings.forEach(e -> e.setReadOnly(readOnly));
+	}
+
+	/**
+	 * Handles a value change of a bound field.
+	 *
+	 * @param binding
+	 *            the binding of the changed field
+	 * @param event
+	 *            the value change event of the field
+	 */
+	protected void handleFieldValueChange(EasyBinding<BEAN, ?, ?> binding, ValueChangeEvent<?> event) {
+		if (getBean() == null || writingFields) {
+			return;
+		}
+		// A value set in a deferred field replaces the pending bean value
+		binding.deferred = false;
+		if (isUpdating()) {
+			pendingFieldChanges.put(binding, event);
+		} else {
+			commitField(binding, event);
+		}
 	}
 
 	protected boolean fieldToBean(EasyBinding<BEAN, ?, ?> binding) {
-		Optional<String> currentError = binding.getError();
+		return commitField(binding, null);
+	}
 
-		binding.read(getBean());
-		if (!binding.hasConversionError()) {
-			Optional<String> currentValidationError = binding.getValidationError();
-			validate();
-			if (!currentValidationError.equals(binding.getValidationError())) {
-				// TODO: only fire if global change
-				fireStatusChangeEvent();
+	/**
+	 * Writes the field value of a binding to the bean in the stages listed by
+	 * {@link FieldCommitStage}: the value is converted, assigned to the bean,
+	 * the property is validated, the error state of the binding is compared to
+	 * the state before the commit and finally the binding status handler (only
+	 * if the error changed), the status change listeners and, if an event is
+	 * given and the value could be converted, the value change listeners are
+	 * notified.
+	 *
+	 * @param binding
+	 *            the binding to commit
+	 * @param event
+	 *            the field value change event to forward to value change
+	 *            listeners, or {@code null} to not fire a value change event
+	 * @return {@code true} if the value was converted without errors
+	 */
+	protected <FIELDVALUE, TARGET> boolean commitField(EasyBinding<BEAN, FIELDVALUE, TARGET> binding,
+			ValueChangeEvent<?> event) {
+		boolean timed = !fieldCommitListeners.isEmpty();
+		long time = timed ? System.nanoTime() : 0;
+		String previousError = binding.conversionError != null ? binding.conversionError : binding.validationError;
+
+		Result<TARGET> result = binding.convert();
+		if (timed) {
+			time = stageCompleted(binding, FieldCommitStage.CONVERT, time);
+		}
+
+		writeToBean(binding, bean -> binding.assign(bean, result));
+		if (timed) {
+			time = stageCompleted(binding, FieldCommitStage.ASSIGN, time);
+		}
+
+		boolean converted = binding.conversionError == null;
+		boolean deferred = validationQueue.defer(binding);
+		if (converted && !deferred) {
+			validate(binding);
+		}
+		if (timed) {
+			time = stageCompleted(binding, FieldCommitStage.VALIDATE, time);
+		}
+
+		String error = binding.conversionError != null ? binding.conversionError : binding.validationError;
+		boolean errorChanged = !deferred && !Objects.equals(previousError, error);
+		if (timed) {
+			time = stageCompleted(binding, FieldCommitStage.DIFF, time);
+		}
+
+		if (errorChanged) {
+			BindingValidationStatus<TARGET> bindingStatus = binding.validate(false);
+			if (!binding.isDeliveredStatus(bindingStatus)) {
+				binding.deliverStatus(bindingStatus);
 			}
 		}
+		if (!deferred) {
+			fireStatusChangeEvent();
+		}
+		if (converted && event != null) {
+			fireValueChangeEvent(event);
+		}
+		if (timed) {
+			stageCompleted(binding, FieldCommitStage.NOTIFY, time);
+		}
+
+		return converted;
+	}
 
-		if (!currentError.equals(binding.getError())) {
-			binding.validate(true);
+	private long stageCompleted(EasyBinding<BEAN, ?, ?> binding, FieldCommitStage stage, long start) {
+		long end = System.nanoTime();
+		fieldCommitListeners.forEach(listener -> listener.stageCompleted(binding, stage, end - start));
+		// Exclude the time spent in the listeners from the next stage
+		return System.nanoTime();
+	}
+
+	/**
+	 * Adds a listener notified about the stages of writing a field value to the
+	 * bean. While listeners are registered each stage is timed with
+	 * {@link System#nanoTime()}.
+	 *
+	 * @param listener
+	 *            the listener to add, not null
+	 * @return a registration for the listener
+	 * @see FieldCommitStage
+	 */
+	public Registration addFieldCommitListener(FieldCommitListener listener) {
+		return fieldCommitListeners.add(listener);
+	}
+
+	/**
+	 * Writes the field value of the given binding to the current bean.
+	 *
+	 * @param binding
+	 *            the binding to read
+	 * @see #isWritingBean()
+	 */
+	protected void readField(EasyBinding<BEAN, ?, ?> binding) {
+		writeToBean(binding, binding::read);
+	}
+
+	protected void writeToBean(EasyBinding<BEAN, ?, ?> binding, Consumer<BEAN> write) {
+		boolean writing = writingBean;
+		boolean added = binding.property != null && writingProperties.add(binding.property);
+		writingBean = true;
+		try {
+			write.accept(getBean());
+		} finally {
+			writingBean = writing;
+			if (added) {
+				writingProperties.remove(binding.property);
+			}
 		}
-		fireStatusChangeEvent();
+	}
+
+	/**
+	 * Gets whether the binder is currently writing field values to the bean.
+	 * Can be used to tell changes made by the binder apart from other changes
+	 * of the bean.
+	 *
+	 * @return {@code true} while a bean setter is called by the binder
+	 * @see #isWritingProperty(String)
+	 */
+	protected boolean isWritingBean() {
+		return writingBean;
+	}
 
-		return !binding.hasConversionError();
+	/**
+	 * Gets whether the binder is currently writing the field value of the given
+	 * property to the bean. Other properties changed by the setter, e.g.
+	 * derived properties, are not being written.
+	 *
+	 * @param propertyName
+	 *            the name of the property
+	 * @return {@code true} while the setter of the property is called by the
+	 *         binder
+	 */
+	protected boolean isWritingProperty(String propertyName) {
+		return writingProperties.contains(propertyName);
 	}
 
 	public List<EasyBinding<BEAN, ?, ?>> getBindings() {
@@ -608,17 +1815,20 @@ public class BasicBinder<BEAN> {
     /**
      * The default binder level status handler.
      * <p>
-     * Passes all field related results to the Binding status handlers. All
-     * other status changes are displayed in the status label, if one has been
-     * set with {@link #setStatusLabel(Label)}.
+     * Passes field related results to the Binding status handlers, skipping
+     * bindings whose status and message equal the status last passed to their
+     * handler. All other status changes are displayed in the status label, if
+     * one has been set with {@link #setStatusLabel(Label)}.
      *
      * @param binderStatus
      *            status of validation results from binding and/or bean level
      *            validators
      */
+	@SuppressWarnings("unchecked")
 	protected void handleBinderValidationStatus(BasicBinderValidationStatus<BEAN> binderStatus) {
-		// let field events go to binding status handlers
-		binderStatus.notifyBindingValidationStatusHandlers();
+		// let changed field statuses go to binding status handlers
+		binderStatus.notifyBindingValidationStatusHandlers(
+				s -> !((EasyBinding<BEAN, ?, ?>) s.getBinding()).isDeliveredStatus(s));
 
 		// show first possible error or OK status in the label if set
 		if (getStatusLabel().isPresent()) {
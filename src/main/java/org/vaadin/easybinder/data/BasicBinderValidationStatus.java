@@ -20,9 +20,13 @@
 package org.vaadin.easybinder.data;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.vaadin.data.BindingValidationStatus;
@@ -49,6 +53,13 @@ public class BasicBinderValidationStatus<BEAN> implements Serializable {
 	private final transient BasicBinder<BEAN> binder;
 	private final List<BindingValidationStatus<?>> bindingStatuses;
 	private final List<ValidationResult> binderStatuses;
+	private final int fieldErrorCount;
+	private final int beanErrorCount;
+
+	// Views computed on first use
+	private transient List<BindingValidationStatus<?>> fieldErrors;
+	private transient List<ValidationResult> beanErrors;
+	private transient Map<String, BindingValidationStatus<?>> statusByProperty;
 
 	/**
 	 * Convenience method for creating a unresolved validation status for the given
@@ -82,11 +93,27 @@ public class BasicBinderValidationStatus<BEAN> implements Serializable {
 	 */
 	public BasicBinderValidationStatus(BasicBinder<BEAN> source, List<BindingValidationStatus<?>> bindingStatuses,
 			List<ValidationResult> binderStatuses) {
-		Objects.requireNonNull(binderStatuses, "binding statuses cannot be null");
+		Objects.requireNonNull(bindingStatuses, "binding statuses cannot be null");
 		Objects.requireNonNull(binderStatuses, "binder statuses cannot be null");
 		this.binder = source;
 		this.bindingStatuses = Collections.unmodifiableList(bindingStatuses);
-		this.binderStatuses = Collections.unmodifiableList(binderStatuses);
+		this.binderStatuses = binderStatuses.isEmpty() ? Collections.emptyList()
+				: Collections.unmodifiableList(binderStatuses);
+
+		int errors = 0;
+		for (int i = 0; i < bindingStatuses.size(); i++) {
+			if (bindingStatuses.get(i).isError()) {
+				errors++;
+			}
+		}
+		fieldErrorCount = errors;
+		errors = 0;
+		for (int i = 0; i < binderStatuses.size(); i++) {
+			if (binderStatuses.get(i).isError()) {
+				errors++;
+			}
+		}
+		beanErrorCount = errors;
 	}
 
 	/**
@@ -104,8 +131,25 @@ public class BasicBinderValidationStatus<BEAN> implements Serializable {
 	 * @return {@code true} if validation failed, {@code false} if validation passed
 	 */
 	public boolean hasErrors() {
-		return binderStatuses.stream().filter(ValidationResult::isError).findAny().isPresent()
-				|| bindingStatuses.stream().filter(BindingValidationStatus::isError).findAny().isPresent();
+		return fieldErrorCount > 0 || beanErrorCount > 0;
+	}
+
+	/**
+	 * Gets the number of failed field level validation statuses.
+	 *
+	 * @return the number of field level errors
+	 */
+	public int getFieldErrorCount() {
+		return fieldErrorCount;
+	}
+
+	/**
+	 * Gets the number of failed bean level validation results.
+	 *
+	 * @return the number of bean level errors
+	 */
+	public int getBeanErrorCount() {
+		return beanErrorCount;
 	}
 
 	/**
@@ -123,8 +167,10 @@ public class BasicBinderValidationStatus<BEAN> implements Serializable {
 	 * @return a list of all validation errors
 	 */
 	public List<ValidationResult> getValidationErrors() {
-		List<ValidationResult> errors = getFieldValidationErrors().stream().map(s -> s.getResult().get())
-				.collect(Collectors.toList());
+		List<ValidationResult> errors = new ArrayList<>(fieldErrorCount + beanErrorCount);
+		for (BindingValidationStatus<?> status : getFieldValidationErrors()) {
+			errors.add(status.getResult().get());
+		}
 		errors.addAll(getBeanValidationErrors());
 		return errors;
 	}
@@ -159,7 +205,34 @@ public class BasicBinderValidationStatus<BEAN> implements Serializable {
 	 * @return a list of failed field level validation statuses
 	 */
 	public List<BindingValidationStatus<?>> getFieldValidationErrors() {
-		return bindingStatuses.stream().filter(BindingValidationStatus::isError).collect(Collectors.toList());
+		if (fieldErrors == null) {
+			fieldErrors = fieldErrorCount == 0 ? Collections.emptyList()
+					: Collections.unmodifiableList(
+							bindingStatuses.stream().filter(BindingValidationStatus::isError).collect(Collectors.toList()));
+		}
+		return fieldErrors;
+	}
+
+	/**
+	 * Gets the validation status of the binding bound to the given property.
+	 *
+	 * @param propertyName
+	 *            the name of the property
+	 * @return the validation status, or an empty optional if the property is not
+	 *         bound
+	 */
+	public Optional<BindingValidationStatus<?>> getFieldValidationStatus(String propertyName) {
+		if (statusByProperty == null) {
+			Map<String, BindingValidationStatus<?>> index = new HashMap<>();
+			for (BindingValidationStatus<?> status : bindingStatuses) {
+				if (status.getBinding() instanceof BasicBinder.EasyBinding) {
+					((BasicBinder.EasyBinding<?, ?, ?>) status.getBinding()).getProperty()
+							.ifPresent(property -> index.putIfAbsent(property, status));
+				}
+			}
+			statusByProperty = index;
+		}
+		return Optional.ofNullable(statusByProperty.get(propertyName));
 	}
 
 	/**
@@ -168,7 +241,12 @@ public class BasicBinderValidationStatus<BEAN> implements Serializable {
 	 * @return a list of failed bean level validation results
 	 */
 	public List<ValidationResult> getBeanValidationErrors() {
-		return binderStatuses.stream().filter(ValidationResult::isError).collect(Collectors.toList());
+		if (beanErrors == null) {
+			beanErrors = beanErrorCount == 0 ? Collections.emptyList()
+					: Collections.unmodifiableList(
+							binderStatuses.stream().filter(ValidationResult::isError).collect(Collectors.toList()));
+		}
+		return beanErrors;
 	}
 
 	/**
@@ -193,7 +271,6 @@ public class BasicBinderValidationStatus<BEAN> implements Serializable {
 	@SuppressWarnings("unchecked")
 	public void notifyBindingValidationStatusHandlers(SerializablePredicate<BindingValidationStatus<?>> filter) {
 		bindingStatuses.stream().filter(filter)
-				.forEach(s -> ((BasicBinder.EasyBinding<BEAN, ?, ?>) s.getBinding()).getValidationStatusHandler()
-						.statusChange(s));
+				.forEach(s -> ((BasicBinder.EasyBinding<BEAN, ?, ?>) s.getBinding()).deliverStatus(s));
 	}
 }
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.validation.constraints.Min;
+
+import com.vaadin.data.BeanPropertySet;
+import com.vaadin.data.BeanPropertySet.NestedBeanPropertyDefinition;
+import com.vaadin.data.PropertyDefinition;
+import com.vaadin.data.PropertySet;
+import com.vaadin.data.RequiredFieldConfigurator;
+import com.vaadin.data.ValueProvider;
+import com.vaadin.data.util.BeanUtil;
+import com.vaadin.server.Setter;
+
+/**
+ * Binding metadata of a bean class shared by all {@link ReflectionBinder}
+ * instances.
+ * <p>
+ * The metadata of a class is computed once and kept in a {@link ClassValue}, so
+ * it is released together with the class when an application is redeployed.
+ * The metadata of a property (its definition, accessors, backing field, model
+ * type and whether the default {@link RequiredFieldConfigurator} of
+ * {@link ReflectionBinder} marks it as required) is resolved on first use and
+ * is immutable. Instances are thread-safe.
+ *
+ * @param <BEAN>
+ *            the bean type
+ */
+public class BeanMetadata<BEAN> {
+
+	/**
+	 * The required field configurator used by {@link ReflectionBinder} unless
+	 * another one is set. Also marks properties with a positive {@link Min}
+	 * value as required.
+	 */
+	public static final RequiredFieldConfigurator DEFAULT_REQUIRED_CONFIGURATOR;
+
+	static {
+		RequiredFieldConfigurator min = annotation -> annotation.annotationType().equals(Min.class)
+				&& ((Min) annotation).value() > 0;
+		DEFAULT_REQUIRED_CONFIGURATOR = min.chain(RequiredFieldConfigurator.DEFAULT);
+	}
+
+	private static final ClassValue<BeanMetadata<?>> METADATA = new ClassValue<BeanMetadata<?>>() {
+		@Override
+		protected BeanMetadata<?> computeValue(Class<?> type) {
+			return new BeanMetadata<>(type);
+		}
+	};
+
+	/**
+	 * Metadata of a bean property.
+	 *
+	 * @param <BEAN>
+	 *            the bean type
+	 */
+	public static class PropertyMetadata<BEAN> {
+		protected final PropertyDefinition<BEAN, ?> definition;
+		protected final Field field;
+		protected final List<Annotation> annotations;
+		protected final boolean required;
+		protected final ValueProvider<BEAN, ?> getter;
+		protected final Setter<BEAN, ?> setter;
+
+		protected PropertyMetadata(PropertyDefinition<BEAN, ?> definition, Field field, ValueProvider<BEAN, ?> getter,
+				Setter<BEAN, ?> setter) {
+			this.definition = definition;
+			this.field = field;
+			this.getter = getter;
+			this.setter = setter;
+			annotations = field != null ? Collections.unmodifiableList(Arrays.asList(field.getAnnotations()))
+					: Collections.emptyList();
+			required = matches(DEFAULT_REQUIRED_CONFIGURATOR);
+		}
+
+		public PropertyDefinition<BEAN, ?> getDefinition() {
+			return definition;
+		}
+
+		/**
+		 * Gets the getter of the property. The getter calls the read method
+		 * directly if possible, see {@link GeneratedAccessors}, otherwise it is
+		 * the getter of the property definition.
+		 *
+		 * @return the getter, not null
+		 */
+		public ValueProvider<BEAN, ?> getGetter() {
+			return getter;
+		}
+
+		/**
+		 * Gets the setter of the property, generated like the getter.
+		 *
+		 * @return the setter, or an empty optional if the property is read-only
+		 * @see #getGetter()
+		 */
+		public Optional<Setter<BEAN, ?>> getSetter() {
+			return Optional.ofNullable(setter);
+		}
+
+		/**
+		 * Gets the field backing the property.
+		 *
+		 * @return the field declared by the property holder type or one of its
+		 *         superclasses
+		 */
+		public Optional<Field> getField() {
+			return Optional.ofNullable(field);
+		}
+
+		/**
+		 * Gets the model type of the property. Unlike the type of the property
+		 * definition this is the primitive type for primitive properties.
+		 *
+		 * @return the type of the backing field
+		 * @throws java.util.NoSuchElementException
+		 *             if the property has no backing field
+		 */
+		public Class<?> getModelType() {
+			return getField().get().getType();
+		}
+
+		/**
+		 * Checks whether the property is marked as required by the given
+		 * configurator, based on the annotations of the backing field. The
+		 * result for {@link BeanMetadata#DEFAULT_REQUIRED_CONFIGURATOR} is
+		 * computed once.
+		 *
+		 * @param configurator
+		 *            the configurator to use, not null
+		 * @return {@code true} if any annotation is accepted by the configurator,
+		 *         {@code false} if none is or the property has no backing field
+		 */
+		public boolean isRequired(RequiredFieldConfigurator configurator) {
+			return configurator == DEFAULT_REQUIRED_CONFIGURATOR ? required : matches(configurator);
+		}
+
+		private boolean matches(RequiredFieldConfigurator configurator) {
+			for (Annotation annotation : annotations) {
+				if (configurator.test(annotation)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	protected final PropertySet<BEAN> propertySet;
+
+	protected final ConcurrentMap<String, Optional<PropertyMetadata<BEAN>>> properties = new ConcurrentHashMap<>();
+
+	@SuppressWarnings("unchecked")
+	protected BeanMetadata(Class<?> beanType) {
+		propertySet = BeanPropertySet.get((Class<BEAN>) beanType);
+	}
+
+	/**
+	 * Gets the metadata of a bean class.
+	 *
+	 * @param beanType
+	 *            the bean class, not null
+	 * @return the shared metadata of the class
+	 */
+	@SuppressWarnings("unchecked")
+	public static <BEAN> BeanMetadata<BEAN> get(Class<BEAN> beanType) {
+		return (BeanMetadata<BEAN>) METADATA.get(beanType);
+	}
+
+	public PropertySet<BEAN> getPropertySet() {
+		return propertySet;
+	}
+
+	/**
+	 * Gets the metadata of a property.
+	 *
+	 * @param propertyName
+	 *            the name of the property, may be a nested property
+	 * @return the metadata of the property, or an empty optional if the bean
+	 *         class has no such property
+	 */
+	public Optional<PropertyMetadata<BEAN>> getProperty(String propertyName) {
+		Optional<PropertyMetadata<BEAN>> property = properties.get(propertyName);
+		if (property == null) {
+			// Not computed in computeIfAbsent, as nested properties resolve their parent
+			property = propertySet.getProperty(propertyName).map(this::createPropertyMetadata);
+			Optional<PropertyMetadata<BEAN>> previous = properties.putIfAbsent(propertyName, property);
+			if (previous != null) {
+				property = previous;
+			}
+		}
+		return property;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	protected PropertyMetadata<BEAN> createPropertyMetadata(PropertyDefinition<BEAN, ?> definition) {
+		String name = getTopLevelName(definition);
+		Field field = getDeclaredFieldByName(definition.getPropertyHolderType(), name).orElse(null);
+
+		ValueProvider<BEAN, ?> getter = null;
+		Setter<BEAN, ?> setter = null;
+		PropertyDescriptor descriptor = null;
+		try {
+			descriptor = BeanUtil.getPropertyDescriptor(definition.getPropertyHolderType(), name);
+		} catch (IntrospectionException e) {
+			// Use the accessors of the definition
+		}
+		if (descriptor != null) {
+			ValueProvider<Object, Object> readMethod = GeneratedAccessors.createGetter(descriptor.getReadMethod());
+			Setter<Object, Object> writeMethod = descriptor.getWriteMethod() != null
+					? GeneratedAccessors.createSetter(descriptor.getWriteMethod())
+					: null;
+			ValueProvider<BEAN, Object> parentGetter = null;
+			if (definition instanceof NestedBeanPropertyDefinition) {
+				parentGetter = (ValueProvider) getProperty(
+						((NestedBeanPropertyDefinition<BEAN, ?>) definition).getParent().getName()).get().getGetter();
+			}
+			if (readMethod != null && parentGetter == null) {
+				getter = (ValueProvider) readMethod;
+				setter = (Setter) writeMethod;
+			} else if (readMethod != null) {
+				ValueProvider<BEAN, Object> parent = parentGetter;
+				getter = bean -> readMethod.apply(parent.apply(bean));
+				setter = writeMethod != null ? (bean, value) -> writeMethod.accept(parent.apply(bean), value) : null;
+			}
+			if (descriptor.getWriteMethod() != null && setter == null) {
+				getter = null;
+			}
+		}
+		if (getter == null) {
+			// Fall back to the reflective accessors of the definition
+			getter = definition.getGetter();
+			setter = (Setter) definition.getSetter().orElse(null);
+		}
+		return new PropertyMetadata<>(definition, field, getter, setter);
+	}
+
+	protected static Optional<Field> getDeclaredFieldByName(Class<?> searchClass, String name) {
+		while (searchClass != null) {
+			try {
+				return Optional.of(searchClass.getDeclaredField(name));
+			} catch (NoSuchFieldException | SecurityException e) {
+				// No such field, try superclass
+				searchClass = searchClass.getSuperclass();
+			}
+		}
+		return Optional.empty();
+	}
+
+	/*
+	Workaround for broken backwards compatibility in Vaadin 8.3:
+	The behavior of NestedBeanPropertyDefinition.getName() was changed in 8.3 instead a new method getTopLevelName() was introduced that
+	provides the old "getName()" functionality. However since the getTopLevelName() was not introduced before 8.3 we have to provide out own
+	implementation that works with all 8.x series of Vaadin
+	 */
+	protected static <BEAN> String getTopLevelName(PropertyDefinition<BEAN, ?> definition) {
+		String propertyDefinitionName = definition.getName();
+		if (definition instanceof NestedBeanPropertyDefinition) {
+			NestedBeanPropertyDefinition<BEAN, ?> nbpd = (NestedBeanPropertyDefinition<BEAN, ?>) definition;
+			PropertyDefinition<BEAN, ?> parent = nbpd.getParent();
+			if (parent != null) {
+				String prefix = parent.getName() + ".";
+				if (propertyDefinitionName.startsWith(prefix)) {
+					propertyDefinitionName = propertyDefinitionName.substring(prefix.length());
+				}
+			}
+		}
+		return propertyDefinitionName;
+	}
+}
@@ -97,15 +97,21 @@ public class BinderAdapter<BEAN> extends Binder<BEAN> {
 			}
 		}
 		BEAN targetBean = binder.getBean();
-		binder.removeBean();
-		binder.getBindings().stream().forEach(e -> {
-			@SuppressWarnings("unchecked")
-			Setter<BEAN, Object> setter = (Setter<BEAN, Object>) e.setter;
-			if (setter != null) {
-				setter.accept(targetBean, e.getter.apply(bean));
-			}
-		});
-		binder.setBean(targetBean);
+		// Validate and notify listeners once
+		binder.beginUpdate();
+		try {
+			binder.removeBean();
+			binder.getBindings().stream().forEach(e -> {
+				@SuppressWarnings("unchecked")
+				Setter<BEAN, Object> setter = (Setter<BEAN, Object>) e.setter;
+				if (setter != null) {
+					setter.accept(targetBean, e.getter.apply(bean));
+				}
+			});
+			binder.setBean(targetBean);
+		} finally {
+			binder.commitUpdate();
+		}
 	}
 
 	@Override
@@ -127,9 +133,10 @@ public class BinderAdapter<BEAN> extends Binder<BEAN> {
 				setter.accept(bean, e.getter.apply(sourceBean));
 			}
 		});
+		// The written values are no longer changes
+		binder.getBindings().forEach(e -> e.snapshot(sourceBean));
 		// Trigger StatusChange (required by Grid editor).
-		binder.removeBean();
-		binder.setBean(sourceBean);
+		binder.fireStatusChangeEvent(true);
 	}
 
 	@Override
@@ -209,7 +216,7 @@ public class BinderAdapter<BEAN> extends Binder<BEAN> {
 
 	@Override
 	public boolean hasChanges() {
-		return binder.hasChanges;
+		return binder.getHasChanges();
 	}
 
 	@Override
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Objects;
+
+import com.vaadin.server.SerializableFunction;
+import com.vaadin.ui.Component;
+import com.vaadin.ui.ComponentContainer;
+
+/**
+ * Pool of fully bound {@link AutoBinder} instances and their components.
+ * <p>
+ * Building a form with {@link AutoBinder#buildAndBind(String...)} inspects the
+ * bean class, resolves converters and creates components every time. Views
+ * that repeatedly open the same editor, e.g. a dialog or grid editor, can
+ * instead acquire a binder from a pool and release it when the editor is
+ * closed:
+ *
+ * <pre>
+ * PooledBinder&lt;Person&gt; form = pool.acquire(Person.class);
+ * layout.addComponents(form.getComponents());
+ * form.getBinder().setBean(person);
+ * ...
+ * form.release();
+ * </pre>
+ *
+ * Binders are keyed by bean class and a layout key identifying how the
+ * components were built. On release the bean is removed and the components are
+ * detached from their parent. Only a bounded number of idle binders are kept,
+ * the least recently released binder is evicted and its bindings removed when
+ * the pool is full.
+ * <p>
+ * Listeners added to a binder or its components after it was acquired are not
+ * removed on release and should be removed by the caller.
+ * <p>
+ * Components can only be attached to one UI, so a pool must not be shared
+ * between UIs (it is typically kept in a UI or view field). The pool is not
+ * thread-safe.
+ */
+public class BinderPool implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * A binder and its components handed out by a {@link BinderPool}.
+	 *
+	 * @param <BEAN>
+	 *            the bean type
+	 */
+	public static class PooledBinder<BEAN> implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		protected final BinderPool pool;
+		protected final Key key;
+		protected final AutoBinder<BEAN> binder;
+		protected final Component[] components;
+		protected boolean inUse;
+
+		protected PooledBinder(BinderPool pool, Key key, AutoBinder<BEAN> binder, Component[] components) {
+			this.pool = pool;
+			this.key = key;
+			this.binder = binder;
+			this.components = components;
+		}
+
+		public AutoBinder<BEAN> getBinder() {
+			return binder;
+		}
+
+		public Component[] getComponents() {
+			return components.clone();
+		}
+
+		public boolean isInUse() {
+			return inUse;
+		}
+
+		/**
+		 * Returns the binder to the pool it was acquired from.
+		 *
+		 * @see BinderPool#release(PooledBinder)
+		 */
+		public void release() {
+			pool.release(this);
+		}
+	}
+
+	protected static class Key implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		protected final Class<?> beanClass;
+		protected final Object layoutKey;
+
+		protected Key(Class<?> beanClass, Object layoutKey) {
+			this.beanClass = beanClass;
+			this.layoutKey = layoutKey;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return beanClass == other.beanClass && Objects.equals(layoutKey, other.layoutKey);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * beanClass.hashCode() + Objects.hashCode(layoutKey);
+		}
+	}
+
+	public static final int DEFAULT_MAX_IDLE = 8;
+
+	protected final int maxIdle;
+
+	// Idle binders, least recently released first
+	protected LinkedList<PooledBinder<?>> idle = new LinkedList<>();
+
+	public BinderPool() {
+		this(DEFAULT_MAX_IDLE);
+	}
+
+	/**
+	 * Creates a pool keeping at most the given number of idle binders.
+	 *
+	 * @param maxIdle
+	 *            the maximum number of idle binders, 0 disables pooling
+	 */
+	public BinderPool(int maxIdle) {
+		if (maxIdle < 0) {
+			throw new IllegalArgumentException("maxIdle must not be negative");
+		}
+		this.maxIdle = maxIdle;
+	}
+
+	/**
+	 * Acquires a binder for the given bean class with components built by
+	 * {@link AutoBinder#buildAndBind(String...)}.
+	 *
+	 * @param beanClass
+	 *            the bean class, not null
+	 * @param nestedProperties
+	 *            the nested properties to expand
+	 * @return a bound binder without a bean
+	 */
+	public <BEAN> PooledBinder<BEAN> acquire(Class<BEAN> beanClass, String... nestedProperties) {
+		return acquire(beanClass, Arrays.asList(nestedProperties), e -> e.buildAndBind(nestedProperties));
+	}
+
+	/**
+	 * Acquires a binder for the given bean class and layout. An idle binder with
+	 * the same bean class and layout key is reused if available, otherwise a new
+	 * binder is created and its components are built by the given builder.
+	 *
+	 * @param beanClass
+	 *            the bean class, not null
+	 * @param layoutKey
+	 *            identifies the components built by the builder, binders are
+	 *            only reused for equal layout keys
+	 * @param builder
+	 *            creates and binds the components of a new binder
+	 * @return a bound binder without a bean
+	 */
+	@SuppressWarnings("unchecked")
+	public <BEAN> PooledBinder<BEAN> acquire(Class<BEAN> beanClass, Object layoutKey,
+			SerializableFunction<AutoBinder<BEAN>, Component[]> builder) {
+		Objects.requireNonNull(beanClass, "beanClass cannot be null");
+		Objects.requireNonNull(builder, "builder cannot be null");
+
+		Key key = new Key(beanClass, layoutKey);
+		PooledBinder<BEAN> pooledBinder = null;
+		// Most recently released binders are most likely to have warm components
+		for (Iterator<PooledBinder<?>> i = idle.descendingIterator(); i.hasNext();) {
+			PooledBinder<?> candidate = i.next();
+			if (candidate.key.equals(key)) {
+				i.remove();
+				pooledBinder = (PooledBinder<BEAN>) candidate;
+				break;
+			}
+		}
+		if (pooledBinder == null) {
+			AutoBinder<BEAN> binder = new AutoBinder<>(beanClass);
+			pooledBinder = new PooledBinder<>(this, key, binder, builder.apply(binder));
+		}
+		pooledBinder.inUse = true;
+		return pooledBinder;
+	}
+
+	/**
+	 * Returns a binder to the pool. The bean is removed from the binder and the
+	 * components are detached from their parent container. If the pool is full
+	 * the least recently released binder is evicted.
+	 *
+	 * @param pooledBinder
+	 *            a binder acquired from this pool
+	 * @throws IllegalStateException
+	 *             if the binder was not acquired from this pool or has already
+	 *             been released
+	 */
+	public void release(PooledBinder<?> pooledBinder) {
+		if (pooledBinder.pool != this || !pooledBinder.inUse) {
+			throw new IllegalStateException("Binder is not in use by this pool");
+		}
+		pooledBinder.inUse = false;
+		pooledBinder.binder.removeBean();
+		for (Component component : pooledBinder.components) {
+			if (component.getParent() instanceof ComponentContainer) {
+				((ComponentContainer) component.getParent()).removeComponent(component);
+			}
+		}
+
+		idle.addLast(pooledBinder);
+		while (idle.size() > maxIdle) {
+			evict(idle.removeFirst());
+		}
+	}
+
+	/**
+	 * Evicts all idle binders.
+	 */
+	public void clear() {
+		while (!idle.isEmpty()) {
+			evict(idle.removeFirst());
+		}
+	}
+
+	public int getIdleCount() {
+		return idle.size();
+	}
+
+	public int getMaxIdle() {
+		return maxIdle;
+	}
+
+	protected void evict(PooledBinder<?> pooledBinder) {
+		pooledBinder.binder.removeAllBindings();
+	}
+}
@@ -22,7 +22,7 @@ import java.util.EventObject;
 /**
  * Binder status change event.
  * <p>
- * The {@link BasicBinder} status is changed whenever any of the following
+ * The {@link BasicBinder} status is re-evaluated whenever any of the following
  * happens:
  * <ul>
  * <li>if any of its bound fields or selects have been changed
@@ -31,6 +31,9 @@ import java.util.EventObject;
  * <li>{@link BasicBinder#bind(HasValue, ValueProvider, Setter, String)} is
  * called
  * </ul>
+ * The event is only fired when the conversion or validation error state has
+ * changed, unless {@link BasicBinder#setAlwaysFireStatusChange(boolean)} is
+ * enabled.
  *
  * @see BinderStatusChangeListener#statusChange(BinderStatusChangeEvent)
  * @see BasicBinder#addStatusChangeListener(BinderStatusChangeListener)
@@ -40,6 +43,7 @@ public class BinderStatusChangeEvent extends EventObject {
 
 	private final boolean hasValidationErrors;
 	private final boolean hasConversionErrors;
+	private final boolean validationPending;
 
 	/**
 	 * Create a new status change event for given {@code binder}, storing
@@ -52,9 +56,27 @@ public class BinderStatusChangeEvent extends EventObject {
 	 *            the validation status associated with this event
 	 */
 	public BinderStatusChangeEvent(BasicBinder<?> binder, boolean hasConversionErrors, boolean hasValidationErrors) {
+		this(binder, hasConversionErrors, hasValidationErrors, false);
+	}
+
+	/**
+	 * Create a new status change event for given {@code binder}.
+	 *
+	 * @param binder
+	 *            the event source binder
+	 * @param hasConversionErrors
+	 *            whether any field value could not be converted
+	 * @param hasValidationErrors
+	 *            the validation status associated with this event
+	 * @param validationPending
+	 *            whether an asynchronous validation is still running
+	 */
+	public BinderStatusChangeEvent(BasicBinder<?> binder, boolean hasConversionErrors, boolean hasValidationErrors,
+			boolean validationPending) {
 		super(binder);
 		this.hasConversionErrors = hasConversionErrors;
 		this.hasValidationErrors = hasValidationErrors;
+		this.validationPending = validationPending;
 	}
 
 	public boolean hasConversionErrors() {
@@ -71,6 +93,18 @@ public class BinderStatusChangeEvent extends EventObject {
 		return hasValidationErrors;
 	}
 
+	/**
+	 * Gets whether an asynchronous validation is still running. If so, the
+	 * validation status reflects the previous validation.
+	 *
+	 * @return {@code true} if a validation result is pending
+	 * @see BasicBinder#setAsyncValidation(java.util.concurrent.Executor,
+	 *      com.vaadin.server.SerializableFunction)
+	 */
+	public boolean isValidationPending() {
+		return validationPending;
+	}
+
 	public boolean hasErrors() {
 		return hasValidationErrors() || hasConversionErrors();
 	}
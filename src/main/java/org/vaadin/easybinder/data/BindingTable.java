@@ -0,0 +1,214 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.vaadin.easybinder.data.BasicBinder.EasyBinding;
+
+import com.vaadin.data.HasValue;
+
+/**
+ * Array backed table of the bindings of a {@link BasicBinder}.
+ * <p>
+ * Bindings are kept in insertion order. Each binding remembers its slot in the
+ * table, so removal is done in constant time by clearing the slot. Cleared
+ * slots are skipped by {@link #forEach(Consumer)} and {@link #anyMatch(Predicate)}
+ * and squeezed out before positional access or when they make up more than
+ * half of the table. Bindings can be looked up by field identity, the first
+ * binding of a field is found if the field is bound more than once. The
+ * further bindings of such a field are kept in a per-field list, so the next
+ * one takes over in constant time when the first is removed.
+ *
+ * @param <BEAN>
+ *            the bean type of the binder
+ */
+@SuppressWarnings("serial")
+public class BindingTable<BEAN> extends AbstractList<EasyBinding<BEAN, ?, ?>> implements Serializable {
+	private static final int INITIAL_CAPACITY = 16;
+
+	private EasyBinding<BEAN, ?, ?>[] table = newTable(INITIAL_CAPACITY);
+
+	// Number of used slots, including cleared slots
+	private int end = 0;
+
+	// Number of bindings
+	private int size = 0;
+
+	private final Map<HasValue<?>, EasyBinding<BEAN, ?, ?>> fieldToBinding = new IdentityHashMap<>();
+
+	// Bindings after the first of fields bound more than once, in insertion order
+	private final Map<HasValue<?>, List<EasyBinding<BEAN, ?, ?>>> additionalBindings = new IdentityHashMap<>();
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static <BEAN> EasyBinding<BEAN, ?, ?>[] newTable(int capacity) {
+		return new EasyBinding[capacity];
+	}
+
+	@Override
+	public boolean add(EasyBinding<BEAN, ?, ?> binding) {
+		Objects.requireNonNull(binding);
+		if (end == table.length) {
+			table = Arrays.copyOf(table, table.length * 2);
+		}
+		binding.tableIndex = end;
+		table[end++] = binding;
+		size++;
+		if (fieldToBinding.putIfAbsent(binding.getField(), binding) != null) {
+			additionalBindings.computeIfAbsent(binding.getField(), e -> new ArrayList<>(1)).add(binding);
+		}
+		modCount++;
+		return true;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		if (!contains(o)) {
+			return false;
+		}
+		EasyBinding<?, ?, ?> binding = (EasyBinding<?, ?, ?>) o;
+		table[binding.tableIndex] = null;
+		binding.tableIndex = -1;
+		size--;
+		HasValue<?> field = binding.getField();
+		List<EasyBinding<BEAN, ?, ?>> others = additionalBindings.get(field);
+		if (fieldToBinding.get(field) == binding) {
+			if (others == null) {
+				fieldToBinding.remove(field);
+			} else {
+				// The next binding of the field takes over
+				fieldToBinding.put(field, others.remove(0));
+			}
+		} else if (others != null) {
+			others.remove(binding);
+		}
+		if (others != null && others.isEmpty()) {
+			additionalBindings.remove(field);
+		}
+		modCount++;
+		if (size < end / 2) {
+			compact();
+		}
+		return true;
+	}
+
+	@Override
+	public EasyBinding<BEAN, ?, ?> remove(int index) {
+		EasyBinding<BEAN, ?, ?> binding = get(index);
+		remove(binding);
+		return binding;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		if (!(o instanceof EasyBinding)) {
+			return false;
+		}
+		int index = ((EasyBinding<?, ?, ?>) o).tableIndex;
+		return index >= 0 && index < end && table[index] == o;
+	}
+
+	@Override
+	public EasyBinding<BEAN, ?, ?> get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		if (end != size) {
+			compact();
+		}
+		return table[index];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void clear() {
+		for (int i = 0; i < end; i++) {
+			if (table[i] != null) {
+				table[i].tableIndex = -1;
+				table[i] = null;
+			}
+		}
+		end = 0;
+		size = 0;
+		fieldToBinding.clear();
+		additionalBindings.clear();
+		modCount++;
+	}
+
+	@Override
+	public void forEach(Consumer<? super EasyBinding<BEAN, ?, ?>> action) {
+		for (int i = 0; i < end; i++) {
+			EasyBinding<BEAN, ?, ?> binding = table[i];
+			if (binding != null) {
+				action.accept(binding);
+			}
+		}
+	}
+
+	/**
+	 * Checks whether any binding matches the given predicate.
+	 *
+	 * @param predicate
+	 *            the predicate to test the bindings with
+	 * @return {@code true} if at least one binding matches
+	 */
+	public boolean anyMatch(Predicate<? super EasyBinding<BEAN, ?, ?>> predicate) {
+		for (int i = 0; i < end; i++) {
+			EasyBinding<BEAN, ?, ?> binding = table[i];
+			if (binding != null && predicate.test(binding)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the binding of the given field.
+	 *
+	 * @param field
+	 *            the bound field
+	 * @return the binding of the field or {@code null} if the field is not bound
+	 */
+	public EasyBinding<BEAN, ?, ?> getBinding(HasValue<?> field) {
+		return fieldToBinding.get(field);
+	}
+
+	private void compact() {
+		int j = 0;
+		for (int i = 0; i < end; i++) {
+			EasyBinding<BEAN, ?, ?> binding = table[i];
+			if (binding != null) {
+				binding.tableIndex = j;
+				table[j++] = binding;
+			}
+		}
+		Arrays.fill(table, j, end, null);
+		end = j;
+	}
+}
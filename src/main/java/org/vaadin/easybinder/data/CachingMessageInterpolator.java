@@ -0,0 +1,197 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.validation.MessageInterpolator;
+import javax.validation.metadata.ConstraintDescriptor;
+
+/**
+ * Message interpolator caching the messages interpolated by another
+ * interpolator.
+ * <p>
+ * Messages are keyed by message template, locale and the attribute values of
+ * the constraint, so a message that has been interpolated once is returned
+ * from the cache for every violation of an equal constraint, in every session.
+ * The least recently used message is evicted when the cache is full.
+ * <p>
+ * A message is interpolated without the cache if its template contains an
+ * expression ({@code ${...}}) or the constraint carries the
+ * {@link ConstraintViolationCache.NonCacheable} payload. The interpolator does
+ * not look into the messages of resource bundles, so the payload must be used
+ * for constraints whose message depends on the validated value or on
+ * parameters added by the constraint validator, also if the expression is only
+ * part of the message resolved from a resource bundle. This includes the
+ * {@code @LuhnCheck}, {@code @Mod10Check}, {@code @Mod11Check} and
+ * {@code @ModCheck} constraints of Hibernate Validator.
+ * <p>
+ * The interpolator is thread-safe. It is not used unless installed, e.g. in the
+ * default validator factory with
+ * {@link ValidatorRegistry#setMessageCaching(boolean)}.
+ */
+public class CachingMessageInterpolator implements MessageInterpolator {
+
+	protected static class Key {
+		protected final String template;
+		protected final Locale locale;
+		protected final Map<String, Object> attributes;
+		protected final int hashCode;
+
+		protected Key(String template, Locale locale, Map<String, Object> attributes) {
+			this.template = template;
+			this.locale = locale;
+			this.attributes = attributes;
+			hashCode = Objects.hash(template, locale, attributes);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return template.equals(other.template) && Objects.equals(locale, other.locale)
+					&& attributes.equals(other.attributes);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	public static final int DEFAULT_MAX_SIZE = 1000;
+
+	protected final MessageInterpolator delegate;
+
+	protected final int maxSize;
+
+	protected final Map<Key, String> messages;
+
+	protected long hitCount;
+
+	protected long missCount;
+
+	public CachingMessageInterpolator(MessageInterpolator delegate) {
+		this(delegate, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Creates an interpolator caching at most the given number of messages.
+	 *
+	 * @param delegate
+	 *            the interpolator creating the messages, not null
+	 * @param maxSize
+	 *            the maximum number of cached messages, greater than 0
+	 */
+	public CachingMessageInterpolator(MessageInterpolator delegate, int maxSize) {
+		this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize must be greater than 0");
+		}
+		this.maxSize = maxSize;
+		messages = new LinkedHashMap<Key, String>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+				return size() > CachingMessageInterpolator.this.maxSize;
+			}
+		};
+	}
+
+	@Override
+	public String interpolate(String messageTemplate, Context context) {
+		// The delegate applies its own default locale
+		return interpolate(messageTemplate, context, null);
+	}
+
+	@Override
+	public String interpolate(String messageTemplate, Context context, Locale locale) {
+		Key key = createKey(messageTemplate, context, locale);
+		if (key != null) {
+			synchronized (this) {
+				String message = messages.get(key);
+				if (message != null) {
+					hitCount++;
+					return message;
+				}
+				missCount++;
+			}
+		}
+		String message = locale != null ? delegate.interpolate(messageTemplate, context, locale)
+				: delegate.interpolate(messageTemplate, context);
+		if (key != null && message != null) {
+			synchronized (this) {
+				messages.put(key, message);
+			}
+		}
+		return message;
+	}
+
+	/**
+	 * Creates the cache key of a message.
+	 *
+	 * @return the key, or {@code null} if the message must not be cached
+	 */
+	protected Key createKey(String messageTemplate, Context context, Locale locale) {
+		ConstraintDescriptor<?> descriptor = context.getConstraintDescriptor();
+		if (messageTemplate == null || messageTemplate.contains("${") || descriptor == null
+				|| descriptor.getPayload().stream().anyMatch(ConstraintViolationCache.NonCacheable.class::isAssignableFrom)) {
+			return null;
+		}
+		Map<String, Object> attributes = new HashMap<>();
+		for (Map.Entry<String, Object> attribute : descriptor.getAttributes().entrySet()) {
+			Object value = attribute.getValue();
+			if (value instanceof Object[]) {
+				// Compare array attributes by content
+				value = Arrays.asList((Object[]) value);
+			} else if (value != null && value.getClass().isArray()) {
+				return null;
+			}
+			attributes.put(attribute.getKey(), value);
+		}
+		return new Key(messageTemplate, locale, attributes);
+	}
+
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	public synchronized int getSize() {
+		return messages.size();
+	}
+
+	/**
+	 * Removes all cached messages and resets the statistics, e.g. after resource
+	 * bundles have been reloaded.
+	 */
+	public synchronized void clear() {
+		messages.clear();
+		hitCount = 0;
+		missCount = 0;
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.PatternSyntaxException;
+
+import javax.validation.Validator;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+import javax.validation.metadata.ValidateUnwrappedValue;
+
+/**
+ * Direct checks of the constraints of a property, compiled from the constraint
+ * metadata of a {@link Validator}.
+ * <p>
+ * Only properties whose constraints are all among {@link NotNull},
+ * {@link Size}, {@link Min}, {@link Max} and {@link Pattern} (not composed,
+ * not cascaded and without container element constraints) can be compiled.
+ * The checks are evaluated for all constraints regardless of their groups and
+ * only tell whether a value certainly satisfies them. If
+ * {@link #isSatisfiedBy(Object)} returns {@code false} the value may still be
+ * valid (e.g. for value types the checks do not handle) and the property must
+ * be validated by the validator, which also creates the constraint violations
+ * with their interpolated messages. The checks implement the built-in
+ * constraint validators, validators registered for these constraints in
+ * XML mapping files are not taken into account.
+ * <p>
+ * Compiled regular expressions are shared by all instances.
+ *
+ * @see ReflectionBinder#setConstraintFastPath(boolean)
+ */
+public class CompiledPropertyConstraints implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Check of a single constraint.
+	 */
+	protected interface Check extends Serializable {
+		/**
+		 * Checks a property value.
+		 *
+		 * @param value
+		 *            the property value
+		 * @return {@code true} if the value satisfies the constraint,
+		 *         {@code false} if it does not or the check cannot tell
+		 */
+		boolean test(Object value);
+	}
+
+	private static final Map<String, java.util.regex.Pattern> PATTERNS = new ConcurrentHashMap<>();
+
+	protected final Check[] checks;
+
+	protected CompiledPropertyConstraints(Check[] checks) {
+		this.checks = checks;
+	}
+
+	/**
+	 * Compiles the constraints of a property.
+	 *
+	 * @param validator
+	 *            the validator providing the constraint metadata
+	 * @param beanClass
+	 *            the bean class
+	 * @param property
+	 *            the name of a top level property
+	 * @return the compiled constraints, or {@code null} if any constraint of the
+	 *         property cannot be compiled
+	 */
+	public static CompiledPropertyConstraints compile(Validator validator, Class<?> beanClass, String property) {
+		if (property.indexOf('.') != -1) {
+			return null;
+		}
+		PropertyDescriptor descriptor = validator.getConstraintsForClass(beanClass)
+				.getConstraintsForProperty(property);
+		if (descriptor == null) {
+			return new CompiledPropertyConstraints(new Check[0]);
+		}
+		if (descriptor.isCascaded() || !descriptor.getConstrainedContainerElementTypes().isEmpty()) {
+			return null;
+		}
+		List<Check> checks = new ArrayList<>();
+		for (ConstraintDescriptor<?> constraint : descriptor.getConstraintDescriptors()) {
+			Check check = compile(constraint);
+			if (check == null) {
+				return null;
+			}
+			checks.add(check);
+		}
+		return new CompiledPropertyConstraints(checks.toArray(new Check[checks.size()]));
+	}
+
+	protected static Check compile(ConstraintDescriptor<?> constraint) {
+		if (!constraint.getComposingConstraints().isEmpty()
+				|| constraint.getValueUnwrapping() == ValidateUnwrappedValue.UNWRAP) {
+			return null;
+		}
+		Annotation annotation = constraint.getAnnotation();
+		if (annotation instanceof NotNull) {
+			return value -> value != null;
+		} else if (annotation instanceof Size) {
+			int min = ((Size) annotation).min();
+			int max = ((Size) annotation).max();
+			return value -> value == null || sizeOf(value) >= min && sizeOf(value) <= max;
+		} else if (annotation instanceof Min) {
+			long min = ((Min) annotation).value();
+			return value -> value == null || compare(value, min) >= 0;
+		} else if (annotation instanceof Max) {
+			long max = ((Max) annotation).value();
+			// Values the check cannot compare are reported as not satisfied
+			return value -> {
+				if (value == null) {
+					return true;
+				}
+				int result = compare(value, max);
+				return result <= 0 && result != Integer.MIN_VALUE;
+			};
+		} else if (annotation instanceof Pattern) {
+			java.util.regex.Pattern pattern = getPattern((Pattern) annotation);
+			if (pattern == null) {
+				return null;
+			}
+			return value -> value == null
+					|| value instanceof CharSequence && pattern.matcher((CharSequence) value).matches();
+		}
+		return null;
+	}
+
+	/**
+	 * Checks whether a value satisfies all constraints of the property.
+	 *
+	 * @param value
+	 *            the property value
+	 * @return {@code true} if the value certainly satisfies all constraints,
+	 *         {@code false} if the property must be validated by the validator
+	 */
+	public boolean isSatisfiedBy(Object value) {
+		for (Check check : checks) {
+			if (!check.test(value)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// Size as defined by the built-in @Size validators, -1 for other types
+	private static int sizeOf(Object value) {
+		if (value instanceof CharSequence) {
+			return ((CharSequence) value).length();
+		} else if (value instanceof Collection) {
+			return ((Collection<?>) value).size();
+		} else if (value instanceof Map) {
+			return ((Map<?, ?>) value).size();
+		} else if (value instanceof Object[]) {
+			return ((Object[]) value).length;
+		}
+		return -1;
+	}
+
+	// Compares as the built-in @Min/@Max validators, Integer.MIN_VALUE for other types
+	private static int compare(Object value, long bound) {
+		if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+			return Long.compare(((Number) value).longValue(), bound);
+		} else if (value instanceof BigDecimal) {
+			return Integer.signum(((BigDecimal) value).compareTo(BigDecimal.valueOf(bound)));
+		} else if (value instanceof BigInteger) {
+			return Integer.signum(((BigInteger) value).compareTo(BigInteger.valueOf(bound)));
+		}
+		return Integer.MIN_VALUE;
+	}
+
+	private static java.util.regex.Pattern getPattern(Pattern annotation) {
+		int flags = 0;
+		for (Pattern.Flag flag : annotation.flags()) {
+			flags |= flag.getValue();
+		}
+		String key = flags + ":" + annotation.regexp();
+		java.util.regex.Pattern pattern = PATTERNS.get(key);
+		if (pattern == null) {
+			try {
+				pattern = java.util.regex.Pattern.compile(annotation.regexp(), flags);
+			} catch (PatternSyntaxException e) {
+				return null;
+			}
+			PATTERNS.put(key, pattern);
+		}
+		return pattern;
+	}
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Payload;
+import javax.validation.Validator;
+import javax.validation.constraints.Future;
+import javax.validation.constraints.FutureOrPresent;
+import javax.validation.constraints.Past;
+import javax.validation.constraints.PastOrPresent;
+import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+
+/**
+ * Bounded cache of property level constraint violations keyed by bean class,
+ * property, property value and validation groups.
+ * <p>
+ * Property constraints normally only depend on the property value, so the
+ * result of validating a value can be reused when the same value is validated
+ * again, e.g. when a user toggles between a few values or pages through beans
+ * in a grid. Cached results are computed with
+ * {@link Validator#validateValue(Class, String, Object, Class...)}, so their
+ * root and leaf bean are {@code null}.
+ * <p>
+ * A property is validated without the cache if:
+ * <ul>
+ * <li>the property is nested or cascaded
+ * <li>the value is not known to be immutable, see
+ * {@link ImmutableValues#isImmutable(Object)}
+ * <li>any of its constraints depends on the current time ({@link Future},
+ * {@link Past} and their {@code OrPresent} variants)
+ * <li>any of its constraints carries the {@link NonCacheable} payload, e.g.
+ * {@code @MyConstraint(payload = ConstraintViolationCache.NonCacheable.class)}
+ * for constraints whose validator depends on other state
+ * </ul>
+ * The cache is thread-safe and can be shared between binders.
+ *
+ * @see BasicBinder#setConstraintViolationCache(ConstraintViolationCache)
+ */
+public class ConstraintViolationCache implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Payload marking a constraint whose result must not be cached.
+	 */
+	public interface NonCacheable extends Payload {
+	}
+
+	protected static class Key implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		protected final Class<?> beanClass;
+		protected final String property;
+		protected final Object value;
+		protected final Class<?>[] groups;
+		protected final int hashCode;
+
+		protected Key(Class<?> beanClass, String property, Object value, Class<?>[] groups) {
+			this.beanClass = beanClass;
+			this.property = property;
+			this.value = value;
+			this.groups = groups.clone();
+			hashCode = Objects.hash(beanClass, property, value, Arrays.hashCode(groups));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return beanClass == other.beanClass && property.equals(other.property)
+					&& Objects.equals(value, other.value) && Arrays.equals(groups, other.groups);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	public static final int DEFAULT_MAX_SIZE = 1000;
+
+	private static final Set<Class<? extends Annotation>> TIME_DEPENDENT = Collections
+			.unmodifiableSet(new HashSet<>(
+					Arrays.asList(Future.class, FutureOrPresent.class, Past.class, PastOrPresent.class)));
+
+	protected final int maxSize;
+
+	protected final Map<Key, Set<? extends ConstraintViolation<?>>> violations;
+
+	// Whether a property of a bean class can be cached
+	protected final Map<Class<?>, Map<String, Boolean>> cacheableProperties = new HashMap<>();
+
+	protected long hitCount;
+
+	protected long missCount;
+
+	public ConstraintViolationCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Creates a cache holding at most the given number of results. The least
+	 * recently used result is evicted when the cache is full.
+	 *
+	 * @param maxSize
+	 *            the maximum number of cached results, greater than 0
+	 */
+	public ConstraintViolationCache(int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize must be greater than 0");
+		}
+		this.maxSize = maxSize;
+		violations = new LinkedHashMap<Key, Set<? extends ConstraintViolation<?>>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Set<? extends ConstraintViolation<?>>> eldest) {
+				return size() > ConstraintViolationCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Validates a property of a bean, using a cached result for the property
+	 * value if possible.
+	 *
+	 * @param validator
+	 *            the validator to use on a cache miss
+	 * @param bean
+	 *            the bean to validate
+	 * @param property
+	 *            the name of the property
+	 * @param value
+	 *            the current value of the property
+	 * @param groups
+	 *            the validation groups
+	 * @return the constraint violations of the property
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Set<ConstraintViolation<T>> validateProperty(Validator validator, T bean, String property,
+			Object value, Class<?>... groups) {
+		Class<T> beanClass = (Class<T>) bean.getClass();
+		if (!isCacheable(validator, beanClass, property, value)) {
+			return validator.validateProperty(bean, property, groups);
+		}
+
+		Key key = new Key(beanClass, property, value, groups);
+		synchronized (this) {
+			Set<? extends ConstraintViolation<?>> result = violations.get(key);
+			if (result != null) {
+				hitCount++;
+				return (Set<ConstraintViolation<T>>) result;
+			}
+			missCount++;
+		}
+		Set<ConstraintViolation<T>> result = validator.validateValue(beanClass, property, value, groups);
+		result = result.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(result);
+		synchronized (this) {
+			violations.put(key, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Checks whether the result of validating a property value can be cached.
+	 *
+	 * @param validator
+	 *            the validator providing the constraint metadata
+	 * @param beanClass
+	 *            the bean class
+	 * @param property
+	 *            the name of the property
+	 * @param value
+	 *            the property value
+	 * @return {@code true} if the result can be cached
+	 */
+	public boolean isCacheable(Validator validator, Class<?> beanClass, String property, Object value) {
+		if (!ImmutableValues.isImmutable(value) || property.indexOf('.') != -1) {
+			return false;
+		}
+		synchronized (this) {
+			Map<String, Boolean> properties = cacheableProperties.computeIfAbsent(beanClass, e -> new HashMap<>());
+			Boolean cacheable = properties.get(property);
+			if (cacheable == null) {
+				cacheable = isCacheableProperty(validator.getConstraintsForClass(beanClass)
+						.getConstraintsForProperty(property));
+				properties.put(property, cacheable);
+			}
+			return cacheable;
+		}
+	}
+
+	protected boolean isCacheableProperty(PropertyDescriptor descriptor) {
+		if (descriptor == null) {
+			return true;
+		}
+		if (descriptor.isCascaded()) {
+			return false;
+		}
+		return descriptor.getConstraintDescriptors().stream().allMatch(this::isCacheableConstraint);
+	}
+
+	protected boolean isCacheableConstraint(ConstraintDescriptor<?> descriptor) {
+		if (descriptor.getPayload().stream().anyMatch(NonCacheable.class::isAssignableFrom)
+				|| TIME_DEPENDENT.contains(descriptor.getAnnotation().annotationType())) {
+			return false;
+		}
+		return descriptor.getComposingConstraints().stream().allMatch(this::isCacheableConstraint);
+	}
+
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	public synchronized int getSize() {
+		return violations.size();
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Removes all cached results and resets the statistics.
+	 */
+	public synchronized void clear() {
+		violations.clear();
+		cacheableProperties.clear();
+		hitCount = 0;
+		missCount = 0;
+	}
+}
@@ -26,6 +26,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.vaadin.easybinder.data.converters.NullConverter;
 import org.vaadin.easybinder.data.converters.StringLengthConverterValidator;
@@ -47,6 +48,9 @@ public class ConverterRegistry {
 
 	protected Map<Pair<Class<?>, Class<?>>, Converter<?, ?>> converters = new HashMap<>();
 
+	// Converters resolved by binders, cleared when a converter is (un)registered
+	protected Map<ConverterResolution.Key, ConverterResolution> resolutions = new ConcurrentHashMap<>();
+
 	public static ConverterRegistry getInstance() {
 		if (instance == null) {
 			instance = new ConverterRegistry();
@@ -115,10 +119,33 @@ public class ConverterRegistry {
 	public <PRESENTATIONTYPE, MODELTYPE> void registerConverter(Class<PRESENTATIONTYPE> presentationType,
 			Class<MODELTYPE> modelType, Converter<PRESENTATIONTYPE, MODELTYPE> converter) {
 		converters.put(new Pair<>(presentationType, modelType), converter);
+		resolutions.clear();
 	}
 
 	public <PRESENTATIONTYPE, MODELTYPE> void unregisterConverter(Class<PRESENTATIONTYPE> presentationType,
 			Class<MODELTYPE> modelType) {
 		converters.remove(new Pair<>(presentationType, modelType));
+		resolutions.clear();
+	}
+
+	/**
+	 * Gets a converter resolution cached by
+	 * {@link #cacheResolution(ConverterResolution)}.
+	 *
+	 * @return the resolution, or {@code null} if not cached
+	 */
+	public ConverterResolution getCachedResolution(Class<?> presentationType, Class<?> modelType, Object emptyValue) {
+		return resolutions.get(new ConverterResolution.Key(presentationType, modelType, emptyValue));
+	}
+
+	/**
+	 * Caches the converter resolved between two types. The cache is cleared when
+	 * a converter is registered or unregistered.
+	 *
+	 * @param resolution
+	 *            the resolution, its converter must be immutable
+	 */
+	public void cacheResolution(ConverterResolution resolution) {
+		resolutions.put(resolution.getKey(), resolution);
 	}
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import java.util.Objects;
+
+import com.vaadin.data.Converter;
+
+/**
+ * The converter resolved by {@link ReflectionBinder} between a presentation
+ * type and a model type, and how it was found.
+ * <p>
+ * Resolutions are immutable and cached by the {@link ConverterRegistry} they
+ * were resolved with, so the converter is shared by all bindings between the
+ * same types.
+ *
+ * @see ReflectionBinder#resolveConverter(Class, Class, Object)
+ */
+public class ConverterResolution {
+
+	/**
+	 * How a converter was found.
+	 */
+	public enum Source {
+		/**
+		 * The converter was registered in the {@link ConverterRegistry}.
+		 */
+		REGISTRY,
+		/**
+		 * The types are the same (apart from boxing) and the model type is
+		 * primitive.
+		 */
+		PRIMITIVE_IDENTITY,
+		/**
+		 * The types are the same (apart from boxing), the converter converts the
+		 * empty value of the field to {@code null}.
+		 */
+		IDENTITY,
+		/**
+		 * No converter was found.
+		 */
+		NONE
+	}
+
+	protected final Class<?> presentationType;
+	protected final Class<?> modelType;
+	protected final Object emptyValue;
+	protected final Source source;
+	protected final Converter<?, ?> converter;
+
+	public ConverterResolution(Class<?> presentationType, Class<?> modelType, Object emptyValue, Source source,
+			Converter<?, ?> converter) {
+		this.presentationType = Objects.requireNonNull(presentationType);
+		this.modelType = Objects.requireNonNull(modelType);
+		this.emptyValue = emptyValue;
+		this.source = Objects.requireNonNull(source);
+		this.converter = converter;
+	}
+
+	public Class<?> getPresentationType() {
+		return presentationType;
+	}
+
+	public Class<?> getModelType() {
+		return modelType;
+	}
+
+	public Object getEmptyValue() {
+		return emptyValue;
+	}
+
+	public Source getSource() {
+		return source;
+	}
+
+	/**
+	 * Gets the resolved converter.
+	 *
+	 * @return the converter, or {@code null} if the source is
+	 *         {@link Source#NONE}
+	 */
+	@SuppressWarnings("unchecked")
+	public <PRESENTATION, MODEL> Converter<PRESENTATION, MODEL> getConverter() {
+		return (Converter<PRESENTATION, MODEL>) converter;
+	}
+
+	/**
+	 * Gets the key identifying the resolution in a cache.
+	 *
+	 * @return the key of the presentation type, model type and empty value
+	 */
+	protected Key getKey() {
+		return new Key(presentationType, modelType, emptyValue);
+	}
+
+	/**
+	 * Immutable cache key of a resolution. The hash code is computed once, as the
+	 * key is created for every lookup.
+	 */
+	protected static final class Key {
+		private final Class<?> presentationType;
+		private final Class<?> modelType;
+		private final Object emptyValue;
+		private final int hash;
+
+		protected Key(Class<?> presentationType, Class<?> modelType, Object emptyValue) {
+			this.presentationType = presentationType;
+			this.modelType = modelType;
+			this.emptyValue = emptyValue;
+			this.hash = 31 * (31 * presentationType.hashCode() + modelType.hashCode()) + Objects.hashCode(emptyValue);
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof Key)) {
+				return false;
+			}
+			Key k = (Key) object;
+			return hash == k.hash && presentationType == k.presentationType && modelType == k.modelType
+					&& Objects.equals(emptyValue, k.emptyValue);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "Converter for " + presentationType.getName() + "->" + modelType.getName() + " (empty value "
+				+ emptyValue + ") found by " + source;
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import org.vaadin.easybinder.data.BasicBinder.EasyBinding;
+
+import com.vaadin.event.SerializableEventListener;
+
+/**
+ * Listener notified when a stage of writing a field value to the bean has
+ * completed, e.g. to measure where the time of an edit goes. The stages are
+ * only timed while at least one listener is registered.
+ *
+ * @see BasicBinder#addFieldCommitListener(FieldCommitListener)
+ */
+@FunctionalInterface
+public interface FieldCommitListener extends SerializableEventListener {
+	/**
+	 * Called when a stage has completed.
+	 *
+	 * @param binding
+	 *            the binding whose field value is written
+	 * @param stage
+	 *            the completed stage
+	 * @param nanos
+	 *            the time spent in the stage in nanoseconds
+	 */
+	void stageCompleted(EasyBinding<?, ?, ?> binding, FieldCommitStage stage, long nanos);
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+/**
+ * The stages a field value passes through when it is written to the bean.
+ *
+ * @see BasicBinder#addFieldCommitListener(FieldCommitListener)
+ */
+public enum FieldCommitStage {
+	/**
+	 * The field value is converted to the model type.
+	 */
+	CONVERT,
+	/**
+	 * The converted value is assigned to the bean property, or the conversion
+	 * error is recorded.
+	 */
+	ASSIGN,
+	/**
+	 * The property, or the bean if the property cannot be validated in
+	 * isolation, is validated.
+	 */
+	VALIDATE,
+	/**
+	 * The error state of the binding is compared to the state before the
+	 * commit.
+	 */
+	DIFF,
+	/**
+	 * Binding status handlers, status change listeners and value change
+	 * listeners are notified.
+	 */
+	NOTIFY
+}
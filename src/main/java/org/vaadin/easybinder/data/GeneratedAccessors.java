@@ -0,0 +1,232 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.vaadin.data.ValueProvider;
+import com.vaadin.server.Setter;
+
+/**
+ * Creates getters and setters calling the accessor methods of a bean directly
+ * instead of through reflection.
+ * <p>
+ * The accessors are generated with {@link LambdaMetafactory}, which is only
+ * possible for public methods of public classes visible from the class loader
+ * of this class. The factory methods return {@code null} for other methods, so
+ * the caller can fall back to reflective accessors.
+ * <p>
+ * Generated lambdas cannot be serialized, so the returned accessors only keep
+ * the signature of the method when serialized and generate the lambda again
+ * on first use after deserialization.
+ */
+public class GeneratedAccessors {
+
+	private static final Logger LOG = Logger.getLogger(GeneratedAccessors.class.getName());
+
+	/**
+	 * Getter calling a generated function.
+	 *
+	 * @param <T>
+	 *            the bean type
+	 * @param <V>
+	 *            the property type
+	 */
+	protected static class GeneratedGetter<T, V> implements ValueProvider<T, V> {
+
+		private static final long serialVersionUID = 1L;
+
+		protected final Class<?> declaringClass;
+		protected final String methodName;
+		private transient Function<Object, Object> function;
+
+		protected GeneratedGetter(Method method, Function<Object, Object> function) {
+			declaringClass = method.getDeclaringClass();
+			methodName = method.getName();
+			this.function = function;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V apply(T bean) {
+			Function<Object, Object> f = function;
+			if (f == null) {
+				f = regenerate(createFunction(findMethod(declaringClass, methodName)));
+				function = f;
+			}
+			return (V) f.apply(bean);
+		}
+	}
+
+	/**
+	 * Setter calling a generated function.
+	 *
+	 * @param <T>
+	 *            the bean type
+	 * @param <V>
+	 *            the property type
+	 */
+	protected static class GeneratedSetter<T, V> implements Setter<T, V> {
+
+		private static final long serialVersionUID = 1L;
+
+		protected final Class<?> declaringClass;
+		protected final String methodName;
+		protected final Class<?> parameterType;
+		private transient BiConsumer<Object, Object> consumer;
+
+		protected GeneratedSetter(Method method, BiConsumer<Object, Object> consumer) {
+			declaringClass = method.getDeclaringClass();
+			methodName = method.getName();
+			parameterType = method.getParameterTypes()[0];
+			this.consumer = consumer;
+		}
+
+		@Override
+		public void accept(T bean, V value) {
+			BiConsumer<Object, Object> c = consumer;
+			if (c == null) {
+				c = regenerate(createConsumer(findMethod(declaringClass, methodName, parameterType)));
+				consumer = c;
+			}
+			c.accept(bean, value);
+		}
+	}
+
+	private GeneratedAccessors() {
+	}
+
+	/**
+	 * Creates a getter calling the given read method.
+	 *
+	 * @param readMethod
+	 *            a method without parameters
+	 * @return the getter, or {@code null} if it cannot be generated
+	 */
+	public static <T, V> ValueProvider<T, V> createGetter(Method readMethod) {
+		if (!canGenerate(readMethod)) {
+			return null;
+		}
+		Function<Object, Object> function = createFunction(readMethod);
+		return function != null ? new GeneratedGetter<>(readMethod, function) : null;
+	}
+
+	/**
+	 * Creates a setter calling the given write method.
+	 *
+	 * @param writeMethod
+	 *            a method with one parameter
+	 * @return the setter, or {@code null} if it cannot be generated
+	 */
+	public static <T, V> Setter<T, V> createSetter(Method writeMethod) {
+		if (!canGenerate(writeMethod)) {
+			return null;
+		}
+		BiConsumer<Object, Object> consumer = createConsumer(writeMethod);
+		return consumer != null ? new GeneratedSetter<>(writeMethod, consumer) : null;
+	}
+
+	protected static boolean canGenerate(Method method) {
+		if (method == null || Modifier.isStatic(method.getModifiers()) || !Modifier.isPublic(method.getModifiers())
+				|| !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+			return false;
+		}
+		// The generated class resolves the types it uses through our class loader
+		if (!isVisible(method.getDeclaringClass()) || !isVisible(method.getReturnType())) {
+			return false;
+		}
+		for (Class<?> type : method.getParameterTypes()) {
+			if (!isVisible(type)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isVisible(Class<?> type) {
+		while (type.isArray()) {
+			type = type.getComponentType();
+		}
+		if (type.isPrimitive()) {
+			return true;
+		}
+		try {
+			return Class.forName(type.getName(), false, GeneratedAccessors.class.getClassLoader()) == type;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	protected static Function<Object, Object> createFunction(Method method) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle handle = lookup.unreflect(method);
+			CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+					MethodType.methodType(Object.class, Object.class), handle,
+					MethodType.methodType(wrap(method.getReturnType()), method.getDeclaringClass()));
+			return (Function<Object, Object>) site.getTarget().invoke();
+		} catch (Throwable e) {
+			LOG.log(Level.FINE, "Unable to generate getter for " + method, e);
+			return null;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	protected static BiConsumer<Object, Object> createConsumer(Method method) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle handle = lookup.unreflect(method);
+			CallSite site = LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+					MethodType.methodType(void.class, Object.class, Object.class), handle,
+					MethodType.methodType(void.class, method.getDeclaringClass(),
+							wrap(method.getParameterTypes()[0])));
+			return (BiConsumer<Object, Object>) site.getTarget().invoke();
+		} catch (Throwable e) {
+			LOG.log(Level.FINE, "Unable to generate setter for " + method, e);
+			return null;
+		}
+	}
+
+	private static Class<?> wrap(Class<?> type) {
+		return MethodType.methodType(type).wrap().returnType();
+	}
+
+	private static Method findMethod(Class<?> declaringClass, String name, Class<?>... parameterTypes) {
+		try {
+			return declaringClass.getMethod(name, parameterTypes);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException("Accessor " + name + " not found in " + declaringClass, e);
+		}
+	}
+
+	private static <F> F regenerate(F function) {
+		if (function == null) {
+			throw new IllegalStateException("Unable to generate accessor after deserialization");
+		}
+		return function;
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.UUID;
+
+/**
+ * Recognizes property values of well known immutable types.
+ */
+public class ImmutableValues {
+
+	private ImmutableValues() {
+	}
+
+	/**
+	 * Checks whether a value is known to be immutable.
+	 *
+	 * @param value
+	 *            the value to check
+	 * @return {@code true} if the value is {@code null}, a string, a boxed
+	 *         primitive, an enum constant, a {@link BigDecimal} or
+	 *         {@link BigInteger} (but not a subclass, which may be mutable), a
+	 *         {@link UUID}, a {@code java.time} value or an empty collection of
+	 *         {@link Collections}, otherwise {@code false}
+	 */
+	public static boolean isImmutable(Object value) {
+		if (value == null) {
+			return true;
+		}
+		Class<?> type = value.getClass();
+		return type == String.class || type == Boolean.class || type == Character.class || value instanceof Enum
+				|| type == Integer.class || type == Long.class || type == Double.class || type == Float.class
+				|| type == Short.class || type == Byte.class || type == BigDecimal.class || type == BigInteger.class
+				|| type == UUID.class || type.getName().startsWith("java.time.") || value == Collections.emptySet()
+				|| value == Collections.emptyList() || value == Collections.emptyMap();
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import com.vaadin.shared.Registration;
+
+/**
+ * Copy-on-write list of listeners of one type.
+ * <p>
+ * Listeners are stored in an array that is replaced when a listener is added
+ * or removed, so firing an event iterates a stable snapshot without copying
+ * and calls the listener interface directly.
+ * <p>
+ * Like the {@code EventRouter} of the framework, a listener is registered at
+ * most once: adding a listener that is already in the list (the same
+ * instance) does nothing, so it is called once per event and a single removal
+ * removes it.
+ *
+ * @param <L>
+ *            the listener type
+ */
+public class ListenerList<L> implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private Object[] listeners = new Object[0];
+
+	/**
+	 * Adds a listener. Does nothing if the listener is already in the list.
+	 *
+	 * @param listener
+	 *            the listener to add, not null
+	 * @return a registration for removing the listener
+	 */
+	public Registration add(L listener) {
+		Objects.requireNonNull(listener, "Listener cannot be null");
+		if (indexOf(listener) >= 0) {
+			return () -> remove(listener);
+		}
+		Object[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+		newListeners[listeners.length] = listener;
+		listeners = newListeners;
+		return () -> remove(listener);
+	}
+
+	/**
+	 * Removes a listener. Does nothing if the listener is not in the list.
+	 *
+	 * @param listener
+	 *            the listener to remove
+	 */
+	public void remove(L listener) {
+		int i = indexOf(listener);
+		if (i >= 0) {
+			Object[] newListeners = new Object[listeners.length - 1];
+			System.arraycopy(listeners, 0, newListeners, 0, i);
+			System.arraycopy(listeners, i + 1, newListeners, i, listeners.length - i - 1);
+			listeners = newListeners;
+		}
+	}
+
+	private int indexOf(Object listener) {
+		for (int i = 0; i < listeners.length; i++) {
+			if (listeners[i] == listener) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Calls an action for each listener. The listeners are taken from a
+	 * snapshot, listeners added or removed by the action are not affected.
+	 *
+	 * @param action
+	 *            the action to call, not null
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(Consumer<? super L> action) {
+		for (Object listener : listeners) {
+			action.accept((L) listener);
+		}
+	}
+
+	public boolean isEmpty() {
+		return listeners.length == 0;
+	}
+}
@@ -18,25 +18,33 @@
  */
 package org.vaadin.easybinder.data;
 
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.io.Serializable;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import javax.validation.constraints.Min;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
 
+import org.vaadin.easybinder.data.BeanMetadata.PropertyMetadata;
+import org.vaadin.easybinder.data.ConverterResolution.Source;
 import org.vaadin.easybinder.data.converters.NullConverter;
 import org.vaadin.easybinder.data.converters.NullConverterPrimitiveTarget;
 
 import com.googlecode.gentyref.GenericTypeReflector;
-import com.vaadin.data.BeanPropertySet;
-import com.vaadin.data.BeanPropertySet.NestedBeanPropertyDefinition;
 import com.vaadin.data.Converter;
 import com.vaadin.data.HasItems;
 import com.vaadin.data.HasValue;
@@ -47,27 +55,89 @@ import com.vaadin.data.ValueProvider;
 import com.vaadin.data.provider.DataProvider;
 import com.vaadin.data.provider.Query;
 import com.vaadin.server.Setter;
+import com.vaadin.server.VaadinSession;
+import com.vaadin.ui.Component;
+import com.vaadin.ui.UI;
 import com.vaadin.util.ReflectTools;
 
 public class ReflectionBinder<BEAN> extends BasicBinder<BEAN> implements HasGenericType<BEAN> {
+	// Presentation types resolved from the type arguments of field classes
+	private static final ClassValue<Optional<Class<?>>> PRESENTATION_TYPES = new ClassValue<Optional<Class<?>>>() {
+		@Override
+		protected Optional<Class<?>> computeValue(Class<?> fieldClass) {
+			Type valueType = GenericTypeReflector.getTypeParameter(fieldClass, HasValue.class.getTypeParameters()[0]);
+			if (valueType == null) {
+				return Optional.empty();
+			}
+			if (valueType instanceof ParameterizedType) {
+				return Optional.of((Class<?>) ((ParameterizedType) valueType).getRawType());
+			}
+			return Optional.of((Class<?>) valueType);
+		}
+	};
+
+	// Field classes for which the skipped data provider probing has been logged
+	private static final ClassValue<AtomicBoolean> PROBING_LOGGED = new ClassValue<AtomicBoolean>() {
+		@Override
+		protected AtomicBoolean computeValue(Class<?> fieldClass) {
+			return new AtomicBoolean();
+		}
+	};
+
 	protected Class<BEAN> clazz;
 
 	protected PropertySet<BEAN> propertySet;
 
+	// Shared metadata of the bean class
+	protected BeanMetadata<BEAN> metadata;
+
 	protected Map<String, EasyBinding<BEAN, ?, ?>> boundProperties = new HashMap<String, EasyBinding<BEAN, ?, ?>>();
 
 	protected ConverterRegistry converterRegistry = ConverterRegistry.getInstance();
 
-	private static RequiredFieldConfigurator min = annotation -> annotation.annotationType().equals(Min.class)
-			&& ((Min) annotation).value() > 0;
-
 	protected Logger log = Logger.getLogger(getClass().getName());
 
-	protected RequiredFieldConfigurator requiredConfigurator = min.chain(RequiredFieldConfigurator.DEFAULT);
+	protected RequiredFieldConfigurator requiredConfigurator = BeanMetadata.DEFAULT_REQUIRED_CONFIGURATOR;
+
+	protected boolean observeBean = false;
+
+	// Listener registered with the current bean, null if the bean is not observed
+	protected BeanObserver beanObserver;
+
+	protected boolean constraintFastPath = false;
+
+	// Compiled constraints of the bound properties, absent if not compilable
+	protected Map<String, CompiledPropertyConstraints> compiledConstraints = new HashMap<>();
+
+	protected boolean dataProviderProbing = true;
+
+	protected Map<String, Class<?>> presentationTypeHints = new HashMap<>();
+
+	/**
+	 * Listener registered with beans supporting property change listeners.
+	 */
+	protected class BeanObserver implements PropertyChangeListener, Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		protected final BEAN observedBean;
+		protected final UI ui;
+
+		protected BeanObserver(BEAN observedBean, UI ui) {
+			this.observedBean = observedBean;
+			this.ui = ui;
+		}
+
+		@Override
+		public void propertyChange(PropertyChangeEvent evt) {
+			handleBeanPropertyChange(this, evt);
+		}
+	}
 
 	public ReflectionBinder(Class<BEAN> clazz) {
 		this.clazz = clazz;
-		propertySet = BeanPropertySet.get(clazz);
+		metadata = BeanMetadata.get(clazz);
+		propertySet = metadata.getPropertySet();
 	}
 
 	public ReflectionBinder(Class<BEAN> clazz, ConverterRegistry converterRegistry) {
@@ -75,6 +145,134 @@ public class ReflectionBinder<BEAN> extends BasicBinder<BEAN> implements HasGene
 		this.converterRegistry = converterRegistry;
 	}
 
+	@Override
+	public void setBean(BEAN bean) {
+		unobserveBean();
+		super.setBean(bean);
+		if (bean != null && observeBean) {
+			observeBean(bean);
+		}
+	}
+
+	/**
+	 * Enables or disables observing beans that support property change
+	 * listeners.
+	 * <p>
+	 * If enabled and the bean has public {@code addPropertyChangeListener} and
+	 * {@code removePropertyChangeListener} methods taking a
+	 * {@link PropertyChangeListener}, the binder listens to the bean while it is
+	 * set. When a property is changed by other code, the fields bound to the
+	 * property and its nested properties are refreshed and validated as by
+	 * {@link #refreshFields(java.util.function.Predicate)}. The event for the
+	 * property the binder is writing a field value to is ignored, events for
+	 * other properties changed by the setter (e.g. derived properties) are
+	 * applied. Events are applied directly only if the UI of a bound field (or
+	 * the UI current when the bean was set) is the current UI and its session is
+	 * locked by the firing thread. Events fired by other threads, e.g.
+	 * background threads or request threads of other sessions sharing the
+	 * bean, are applied using {@link UI#access(Runnable)} of that UI. If no UI
+	 * is available the fields are refreshed directly by the firing thread
+	 * without holding a session lock, so beans changed by other threads should
+	 * only be set in binders with fields attached to a UI.
+	 * <p>
+	 * The listener is removed when the bean is removed or replaced. Observing is
+	 * disabled by default and takes effect the next time a bean is set.
+	 *
+	 * @param observeBean
+	 *            {@code true} to observe beans supporting property change
+	 *            listeners
+	 */
+	public void setObserveBean(boolean observeBean) {
+		this.observeBean = observeBean;
+	}
+
+	/**
+	 * Gets whether beans supporting property change listeners are observed.
+	 *
+	 * @return {@code true} if beans are observed
+	 * @see #setObserveBean(boolean)
+	 */
+	public boolean isObserveBean() {
+		return observeBean;
+	}
+
+	protected void observeBean(BEAN bean) {
+		Method addMethod = getPropertyChangeListenerMethod(bean.getClass(), "addPropertyChangeListener");
+		if (addMethod == null
+				|| getPropertyChangeListenerMethod(bean.getClass(), "removePropertyChangeListener") == null) {
+			return;
+		}
+		BeanObserver observer = new BeanObserver(bean, UI.getCurrent());
+		invokePropertyChangeListenerMethod(addMethod, bean, observer);
+		beanObserver = observer;
+	}
+
+	protected void unobserveBean() {
+		if (beanObserver == null) {
+			return;
+		}
+		BeanObserver observer = beanObserver;
+		beanObserver = null;
+		Method removeMethod = getPropertyChangeListenerMethod(observer.observedBean.getClass(),
+				"removePropertyChangeListener");
+		invokePropertyChangeListenerMethod(removeMethod, observer.observedBean, observer);
+	}
+
+	protected Method getPropertyChangeListenerMethod(Class<?> beanClass, String name) {
+		try {
+			Method method = beanClass.getMethod(name, PropertyChangeListener.class);
+			// Public methods of non-public bean classes
+			method.setAccessible(true);
+			return method;
+		} catch (NoSuchMethodException | SecurityException e) {
+			return null;
+		}
+	}
+
+	protected void invokePropertyChangeListenerMethod(Method method, Object bean, PropertyChangeListener listener) {
+		try {
+			method.invoke(bean, listener);
+		} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+			throw new RuntimeException("Unable to call " + method.getName() + " on " + bean.getClass().getName(), e);
+		}
+	}
+
+	protected void handleBeanPropertyChange(BeanObserver observer, PropertyChangeEvent evt) {
+		UI ui = findUI(observer);
+		VaadinSession session = ui != null ? ui.getSession() : null;
+		// Only the thread holding the lock of our own session may touch the fields
+		if (session == null || ui == UI.getCurrent() && session.hasLock()) {
+			refreshObservedProperty(observer, evt.getPropertyName());
+		} else {
+			ui.access(() -> refreshObservedProperty(observer, evt.getPropertyName()));
+		}
+	}
+
+	protected UI findUI(BeanObserver observer) {
+		for (EasyBinding<BEAN, ?, ?> binding : getBindings()) {
+			if (binding.getField() instanceof Component) {
+				UI ui = ((Component) binding.getField()).getUI();
+				if (ui != null) {
+					return ui;
+				}
+			}
+		}
+		return observer.ui;
+	}
+
+	protected void refreshObservedProperty(BeanObserver observer, String propertyName) {
+		// Ignore late events from a bean that has been replaced and our own writes
+		if (observer != beanObserver || propertyName != null && isWritingProperty(propertyName)) {
+			return;
+		}
+		if (propertyName == null) {
+			refreshFields(e -> !isWritingProperty(e));
+		} else {
+			String prefix = propertyName + ".";
+			refreshFields(e -> e.equals(propertyName) || e.startsWith(prefix));
+		}
+	}
+
 	public <PRESENTATION, MODEL> EasyBinding<BEAN, PRESENTATION, MODEL> bind(HasValue<PRESENTATION> field,
 			String propertyName) {
 
@@ -83,15 +281,12 @@ public class ReflectionBinder<BEAN> extends BasicBinder<BEAN> implements HasGene
 		Objects.requireNonNull(propertyName, "Property name cannot be null");
 		// checkUnbound();
 
-		PropertyDefinition<BEAN, ?> definition = propertySet.getProperty(propertyName)
-				.orElseThrow(() -> new IllegalArgumentException(
-						"Could not resolve property name " + propertyName + " from " + propertySet));
+		PropertyMetadata<BEAN> property = getPropertyMetadata(propertyName);
 
-		Optional<Class<PRESENTATION>> presentationTypeClass = getPresentationTypeForField(field);
+		Optional<Class<PRESENTATION>> presentationTypeClass = getPresentationTypeForField(field, property);
 
-		// PropertyDefinition does not return primitive type, so need to get it by field name
-		Optional<Field> modelField = getDeclaredFieldByName(definition.getPropertyHolderType(), getTopLevelName(definition));
-		Class<?> modelTypeClass = modelField.get().getType();
+		// PropertyDefinition does not return primitive type, so the type of the backing field is used
+		Class<?> modelTypeClass = property.getModelType();
 
 		Converter<PRESENTATION, ?> converter = null;
 		if (presentationTypeClass.isPresent()) {
@@ -133,48 +328,210 @@ public class ReflectionBinder<BEAN> extends BasicBinder<BEAN> implements HasGene
 		Objects.requireNonNull(propertyName, "Property name cannot be null");
 		// checkUnbound();
 
-		PropertyDefinition<BEAN, ?> definition = propertySet.getProperty(propertyName)
-				.orElseThrow(() -> new IllegalArgumentException(
-						"Could not resolve property name " + propertyName + " from " + propertySet));
+		PropertyMetadata<BEAN> property = getPropertyMetadata(propertyName);
+		PropertyDefinition<BEAN, ?> definition = property.getDefinition();
 
-		ValueProvider<BEAN, ?> getter = definition.getGetter();
-		Setter<BEAN, ?> setter = readOnly ? null : definition.getSetter().orElse(null);
+		ValueProvider<BEAN, ?> getter = property.getGetter();
+		Setter<BEAN, ?> setter = readOnly ? null : property.getSetter().orElse(null);
 
 		EasyBinding<BEAN, PRESENTATION, MODEL> binding = bind(field, (ValueProvider) getter, (Setter) setter,
 				propertyName, (Converter) converter);
 
 		boundProperties.put(propertyName, binding);
+		compileConstraints(propertyName);
 
-		Optional<Field> modelField = getDeclaredFieldByName(definition.getPropertyHolderType(), getTopLevelName(definition));
-		if (Arrays.asList(modelField.get().getAnnotations()).stream().anyMatch(requiredConfigurator)) {
+		if (requiredConfigurator != null && property.isRequired(requiredConfigurator)) {
 			field.setRequiredIndicatorVisible(true);
 		}
 
 		return binding;
 	}
 
-	@SuppressWarnings("unchecked")
+	/**
+	 * Enables or disables checking common constraints of bound properties
+	 * directly.
+	 * <p>
+	 * If enabled, the constraints of a property are compiled into direct checks
+	 * when the property is bound, provided that all of them are supported by
+	 * {@link CompiledPropertyConstraints}. Validating a property whose value
+	 * passes the checks then does not involve the validator at all. Values
+	 * failing a check are validated by the validator, so the reported
+	 * constraint violations and messages are the same as without the fast
+	 * path. As the checks are only beneficial if properties are validated one
+	 * by one, a full validation then validates the bound properties one by one
+	 * if possible (see {@link #isFullyBound(Class)}).
+	 * <p>
+	 * The checks implement the built-in constraint validators. Validators
+	 * registered for the supported constraints through a custom
+	 * {@link javax.validation.ConstraintValidatorFactory} or an XML mapping are
+	 * not used for values passing the checks, so the fast path must only be
+	 * enabled if the validator uses the built-in validators for these
+	 * constraints.
+	 * <p>
+	 * The fast path is disabled by default and only used for beans of the bean
+	 * class of this binder, not for subclasses.
+	 *
+	 * @param constraintFastPath
+	 *            {@code true} to check compiled constraints directly
+	 */
+	public void setConstraintFastPath(boolean constraintFastPath) {
+		this.constraintFastPath = constraintFastPath;
+		compiledConstraints.clear();
+		boundProperties.keySet().forEach(this::compileConstraints);
+	}
+
+	public boolean isConstraintFastPath() {
+		return constraintFastPath;
+	}
+
+	/**
+	 * Sets whether the data provider of a field with items may be queried to
+	 * find the presentation type of the field.
+	 * <p>
+	 * If the presentation type of a field cannot be found from its class, from
+	 * {@link HasGenericType} or from its empty or current value, the type of
+	 * the first item of a {@link HasItems} field is used. With a backend data
+	 * provider this runs a count and a fetch query for each bound field. If
+	 * probing is disabled, the presentation type hint of the property (see
+	 * {@link #setPresentationTypeHint(String, Class)}) or else the type of the
+	 * property is used instead, and a message is logged once per field class.
+	 * <p>
+	 * Probing is enabled by default.
+	 *
+	 * @param dataProviderProbing
+	 *            {@code false} to never query data providers when binding
+	 */
+	public void setDataProviderProbing(boolean dataProviderProbing) {
+		this.dataProviderProbing = dataProviderProbing;
+	}
+
+	public boolean isDataProviderProbing() {
+		return dataProviderProbing;
+	}
+
+	/**
+	 * Sets the presentation type of the fields bound to a property by
+	 * {@link #bind(HasValue, String)}. The hint is used instead of querying the
+	 * data provider of fields whose presentation type cannot be found
+	 * otherwise.
+	 *
+	 * @param propertyName
+	 *            the name of the property
+	 * @param presentationType
+	 *            the presentation type, or {@code null} to remove the hint
+	 */
+	public void setPresentationTypeHint(String propertyName, Class<?> presentationType) {
+		Objects.requireNonNull(propertyName, "Property name cannot be null");
+		if (presentationType != null) {
+			presentationTypeHints.put(propertyName, presentationType);
+		} else {
+			presentationTypeHints.remove(propertyName);
+		}
+	}
+
+	public Optional<Class<?>> getPresentationTypeHint(String propertyName) {
+		return Optional.ofNullable(presentationTypeHints.get(propertyName));
+	}
+
+	@Override
+	public void setValidator(Validator validator) {
+		super.setValidator(validator);
+		// Recompile, as the constraint metadata may differ
+		compiledConstraints.clear();
+		boundProperties.keySet().forEach(this::compileConstraints);
+	}
+
+	protected void compileConstraints(String propertyName) {
+		if (!constraintFastPath) {
+			return;
+		}
+		CompiledPropertyConstraints constraints = CompiledPropertyConstraints.compile(getValidator(), clazz,
+				propertyName);
+		if (constraints != null) {
+			compiledConstraints.put(propertyName, constraints);
+		} else {
+			compiledConstraints.remove(propertyName);
+		}
+	}
+
+	@Override
+	protected boolean isPropertyValidationPreferred() {
+		return super.isPropertyValidationPreferred() || constraintFastPath && !compiledConstraints.isEmpty();
+	}
+
+	@Override
+	protected Set<ConstraintViolation<BEAN>> validateProperty(EasyBinding<BEAN, ?, ?> binding) {
+		if (constraintFastPath && getBean().getClass() == clazz) {
+			CompiledPropertyConstraints constraints = compiledConstraints.get(binding.property);
+			if (constraints != null && constraints.isSatisfiedBy(binding.getter.apply(getBean()))) {
+				return Collections.emptySet();
+			}
+		}
+		return super.validateProperty(binding);
+	}
+
 	protected <PRESENTATION, MODEL> Converter<PRESENTATION, MODEL> createConverter(Class<PRESENTATION> presentationType,
 			Class<MODEL> modelType, PRESENTATION emptyValue) {
 		Objects.requireNonNull(presentationType);
 		Objects.requireNonNull(modelType);
 
-		Converter<PRESENTATION, MODEL> converter = converterRegistry.getConverter(presentationType, modelType);
+		return resolveConverter(presentationType, modelType, emptyValue).getConverter();
+	}
+
+	/**
+	 * Resolves the converter used by {@link #bind(HasValue, String)} between a
+	 * presentation type and a model type. The converter is looked up in the
+	 * converter registry, if none is registered and the types are the same
+	 * (apart from boxing) a converter mapping the empty value of the field to
+	 * {@code null} is used.
+	 * <p>
+	 * Resolutions are cached in the converter registry, unless the empty value
+	 * may be mutable.
+	 *
+	 * @param presentationType
+	 *            the presentation type, not null
+	 * @param modelType
+	 *            the model type, not null
+	 * @param emptyValue
+	 *            the empty value of the field
+	 * @return the resolution, with a {@code null} converter if no converter was
+	 *         found
+	 */
+	public ConverterResolution resolveConverter(Class<?> presentationType, Class<?> modelType, Object emptyValue) {
+		Objects.requireNonNull(presentationType);
+		Objects.requireNonNull(modelType);
+
+		// The identity converter returns the empty value, so it is only shared if it cannot be modified
+		boolean cacheable = ImmutableValues.isImmutable(emptyValue);
+		ConverterResolution resolution = cacheable
+				? converterRegistry.getCachedResolution(presentationType, modelType, emptyValue)
+				: null;
+		if (resolution != null) {
+			return resolution;
+		}
+
+		Converter<?, ?> converter = converterRegistry.getConverter(presentationType, modelType);
 		if (converter != null) {
-			log.log(Level.INFO, "Converter for {0}->{1} found by lookup", new Object[] { presentationType, modelType });
+			resolution = new ConverterResolution(presentationType, modelType, emptyValue, Source.REGISTRY, converter);
 		} else if (ReflectTools.convertPrimitiveType(presentationType)
 				.equals(ReflectTools.convertPrimitiveType(modelType))) {
 			if (modelType.isPrimitive()) {
-				converter = (Converter<PRESENTATION, MODEL>) new NullConverterPrimitiveTarget<PRESENTATION>();
-				log.log(Level.INFO, "Converter for primitive {0}->{1} found by identity",
-						new Object[] { presentationType, modelType });
+				resolution = new ConverterResolution(presentationType, modelType, emptyValue, Source.PRIMITIVE_IDENTITY,
+						new NullConverterPrimitiveTarget<>());
 			} else {
-				converter = (Converter<PRESENTATION, MODEL>) new NullConverter<PRESENTATION>(emptyValue);
-				log.log(Level.INFO, "Converter for non-primitive {0}->{1} found by identity",
-						new Object[] { presentationType, modelType });
+				resolution = new ConverterResolution(presentationType, modelType, emptyValue, Source.IDENTITY,
+						new NullConverter<>(emptyValue));
 			}
+		} else {
+			resolution = new ConverterResolution(presentationType, modelType, emptyValue, Source.NONE, null);
+		}
+		if (log.isLoggable(Level.FINE)) {
+			log.fine(resolution.toString());
 		}
-		return converter;
+		if (cacheable) {
+			converterRegistry.cacheResolution(resolution);
+		}
+		return resolution;
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -191,19 +548,71 @@ public class ReflectionBinder<BEAN> extends BasicBinder<BEAN> implements HasGene
 		return (Converter) Converter.from(null, fieldValue -> fieldValue == null ? "" : fieldValue.toString());
 	}
 
+	@SuppressWarnings("unchecked")
+	protected <PRESENTATION> Optional<Class<PRESENTATION>> getPresentationTypeForField(HasValue<PRESENTATION> field,
+			PropertyMetadata<BEAN> property) {
+		String propertyName = property.getDefinition().getName();
+		if (!presentationTypeHints.containsKey(propertyName) && dataProviderProbing) {
+			return getPresentationTypeForField(field);
+		}
+		Optional<Class<PRESENTATION>> presentationType = getPresentationTypeForFieldWithoutProbing(field);
+		if (presentationType.isPresent()) {
+			return presentationType;
+		}
+		Class<?> hint = presentationTypeHints.get(propertyName);
+		if (hint != null) {
+			return Optional.of((Class<PRESENTATION>) hint);
+		}
+		if (field instanceof HasItems) {
+			if (!PROBING_LOGGED.get(field.getClass()).getAndSet(true)) {
+				log.log(Level.INFO,
+						"Data provider probing is disabled, using the property type as presentation type of fields of class <{0}>. Register a presentation type hint if the items are of another type.",
+						field.getClass().getName());
+			}
+			return Optional.of((Class<PRESENTATION>) property.getDefinition().getType());
+		}
+		return Optional.empty();
+	}
+
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	protected <PRESENTATION> Optional<Class<PRESENTATION>> getPresentationTypeForField(HasValue<PRESENTATION> field) {
+		Optional<Class<PRESENTATION>> presentationType = getPresentationTypeForFieldWithoutProbing(field);
+		if (presentationType.isPresent()) {
+			return presentationType;
+		}
+
+		// If the field has items we can fetch the type from the first item
+		if (field instanceof HasItems) {
+			HasItems<PRESENTATION> hasItems = (HasItems<PRESENTATION>) field;
+			DataProvider<?, ?> dp = hasItems.getDataProvider();
+			Query<?, ?> q = new Query<>(0, 1, null, null, null);
+			if (dp.size((Query) q) > 0) {
+				Optional<Class<PRESENTATION>> presentationClass = hasItems.getDataProvider().fetch((Query) q).findFirst().map(e -> e.getClass());
+				if (presentationClass.get().isAnonymousClass()) {
+					log.log(Level.INFO, "PresentationType represents a anonymous class, fetching enclosing class.");
+					presentationClass = hasItems.getDataProvider().fetch((Query) q).findFirst().map(e -> e.getClass().getEnclosingClass());
+				}
+				return presentationClass;
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Finds the presentation type of a field from its class, from
+	 * {@link HasGenericType} or from its empty or current value.
+	 */
+	@SuppressWarnings("unchecked")
+	protected <PRESENTATION> Optional<Class<PRESENTATION>> getPresentationTypeForFieldWithoutProbing(
+			HasValue<PRESENTATION> field) {
 		// Unfortunately HasValue in Vaadin does not define a getType() method.
 
 		// Try to find the field type using reflection. This will work for any fields
 		// except fields with generic types.
-		Type valueType = GenericTypeReflector.getTypeParameter(field.getClass(), HasValue.class.getTypeParameters()[0]);
-		if (valueType != null) {
-			if (valueType instanceof ParameterizedType) {
-				ParameterizedType pType = (ParameterizedType) valueType;
-				return Optional.of((Class<PRESENTATION>) pType.getRawType());
-			}
-			return Optional.of((Class<PRESENTATION>) valueType);
+		Optional<Class<?>> valueType = getPresentationTypeForClass(field.getClass());
+		if (valueType.isPresent()) {
+			return Optional.of((Class<PRESENTATION>) valueType.get());
 		}
 
 		// Not possible to find using reflection (due to type erasure).
@@ -227,34 +636,29 @@ public class ReflectionBinder<BEAN> extends BasicBinder<BEAN> implements HasGene
 			return Optional.of((Class<PRESENTATION>) currentValue.getClass());
 		}
 
-		// If the field has items we can fetch the type from the first item
-		if (field instanceof HasItems) {
-			HasItems<PRESENTATION> hasItems = (HasItems<PRESENTATION>) field;
-			DataProvider<?, ?> dp = hasItems.getDataProvider();
-			Query<?, ?> q = new Query<>(0, 1, null, null, null);
-			if (dp.size((Query) q) > 0) {
-				Optional<Class<PRESENTATION>> presentationClass = hasItems.getDataProvider().fetch((Query) q).findFirst().map(e -> e.getClass());
-				if (presentationClass.get().isAnonymousClass()) {
-					log.log(Level.INFO, "PresentationType represents a anonymous class, fetching enclosing class.");
-					presentationClass = hasItems.getDataProvider().fetch((Query) q).findFirst().map(e -> e.getClass().getEnclosingClass());
-				}
-				return presentationClass;
-			}
-		}
-
 		return Optional.empty();
 	}
 
+	/**
+	 * Gets the presentation type declared by a field class. The type is
+	 * resolved once per class.
+	 *
+	 * @param fieldClass
+	 *            the class of a field
+	 * @return the value type of the field class, or an empty optional if it
+	 *         depends on the type arguments of the instance
+	 */
+	protected static Optional<Class<?>> getPresentationTypeForClass(Class<?> fieldClass) {
+		return PRESENTATION_TYPES.get(fieldClass);
+	}
+
+	protected PropertyMetadata<BEAN> getPropertyMetadata(String propertyName) {
+		return metadata.getProperty(propertyName).orElseThrow(() -> new IllegalArgumentException(
+				"Could not resolve property name " + propertyName + " from " + propertySet));
+	}
+
 	protected Optional<Field> getDeclaredFieldByName(Class<?> searchClass, String name) {
-		while (searchClass != null) {
-			try {
-				return Optional.of(searchClass.getDeclaredField(name));
-			} catch (NoSuchFieldException | SecurityException e) {
-				// No such field, try superclass
-				searchClass = searchClass.getSuperclass();
-			}
-		}
-		return Optional.empty();
+		return BeanMetadata.getDeclaredFieldByName(searchClass, name);
 	}
 
 	/**
@@ -291,25 +695,9 @@ public class ReflectionBinder<BEAN> extends BasicBinder<BEAN> implements HasGene
 		return clazz;
 	}
 
-	/*
-	Workaround for broken backwards compatibility in Vaadin 8.3:
-	The behavior of NestedBeanPropertyDefinition.getName() was changed in 8.3 instead a new method getTopLevelName() was introduced that
-	provides the old "getName()" functionality. However since the getTopLevelName() was not introduced before 8.3 we have to provide out own
-	implementation that works with all 8.x series of Vaadin
-	 */
+	// See BeanMetadata.getTopLevelName
 	String getTopLevelName(PropertyDefinition<BEAN, ?> definition) {
-		String propertyDefinitionName = definition.getName();
-		if (definition instanceof NestedBeanPropertyDefinition) {
-			NestedBeanPropertyDefinition<BEAN, ?> nbpd = (NestedBeanPropertyDefinition<BEAN, ?>) definition;
-			PropertyDefinition<BEAN, ?> parent = nbpd.getParent();
-			if (parent != null) {
-				String prefix = parent.getName() + ".";
-				if (propertyDefinitionName.startsWith(prefix)) {
-					propertyDefinitionName = propertyDefinitionName.substring(prefix.length());
-				}
-			}
-		}
-		return propertyDefinitionName;
+		return BeanMetadata.getTopLevelName(definition);
 	}
 
 }
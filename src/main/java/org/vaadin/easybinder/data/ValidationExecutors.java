@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Default executors of {@link BasicBinder}, created on first use. Their
+ * threads are daemon threads.
+ */
+public class ValidationExecutors {
+
+	/**
+	 * Executor running asynchronous validations unless another executor is given.
+	 */
+	private static class DefaultValidationExecutor {
+		private static final Executor INSTANCE = Executors.newCachedThreadPool(r -> {
+			Thread thread = new Thread(r, "easybinder-validation");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Scheduler running debounce timers unless another scheduler is given.
+	 */
+	private static class DefaultValidationScheduler {
+		private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "easybinder-debounce");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private ValidationExecutors() {
+	}
+
+	public static Executor getDefaultExecutor() {
+		return DefaultValidationExecutor.INSTANCE;
+	}
+
+	public static ScheduledExecutorService getDefaultScheduler() {
+		return DefaultValidationScheduler.INSTANCE;
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import java.io.Serializable;
+
+/**
+ * Defines when a field change is validated.
+ * <p>
+ * The field value is always converted and written to the bean immediately.
+ * With a deferred policy the validation and the resulting status notifications
+ * are postponed, e.g. to avoid validating on every keystroke of an eager text
+ * field. Pending validations are always run before
+ * {@link BasicBinder#isValid()} returns.
+ *
+ * @see BasicBinder#setValidationPolicy(ValidationPolicy)
+ * @see BasicBinder.EasyBinding#setValidationPolicy(ValidationPolicy)
+ */
+public final class ValidationPolicy implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	public enum Mode {
+		/**
+		 * Validate on every field change.
+		 */
+		IMMEDIATE,
+		/**
+		 * Validate when the field has not changed for a quiet period.
+		 */
+		DEBOUNCE,
+		/**
+		 * Validate when the field loses focus.
+		 */
+		ON_BLUR
+	}
+
+	private static final ValidationPolicy IMMEDIATE = new ValidationPolicy(Mode.IMMEDIATE, 0);
+
+	private static final ValidationPolicy ON_BLUR = new ValidationPolicy(Mode.ON_BLUR, 0);
+
+	private final Mode mode;
+
+	private final long delay;
+
+	private ValidationPolicy(Mode mode, long delay) {
+		this.mode = mode;
+		this.delay = delay;
+	}
+
+	/**
+	 * Gets the policy validating on every field change. This is the default.
+	 *
+	 * @return the immediate policy
+	 */
+	public static ValidationPolicy immediate() {
+		return IMMEDIATE;
+	}
+
+	/**
+	 * Gets a policy validating when no field change has happened for the given
+	 * period. The validation is run through {@link com.vaadin.ui.UI#access(Runnable)},
+	 * so without a current UI it is only run when the validation is flushed.
+	 *
+	 * @param millis
+	 *            the quiet period in milliseconds
+	 * @return the debounce policy
+	 */
+	public static ValidationPolicy debounce(long millis) {
+		if (millis < 0) {
+			throw new IllegalArgumentException("Delay must not be negative");
+		}
+		return new ValidationPolicy(Mode.DEBOUNCE, millis);
+	}
+
+	/**
+	 * Gets the policy validating when the field loses focus. For fields not
+	 * supporting blur listeners validation is deferred until it is flushed.
+	 *
+	 * @return the on blur policy
+	 */
+	public static ValidationPolicy onBlur() {
+		return ON_BLUR;
+	}
+
+	public Mode getMode() {
+		return mode;
+	}
+
+	/**
+	 * Gets the quiet period of a debounce policy.
+	 *
+	 * @return the delay in milliseconds, 0 for other policies
+	 */
+	public long getDelay() {
+		return delay;
+	}
+
+	public boolean isImmediate() {
+		return mode == Mode.IMMEDIATE;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof ValidationPolicy)) {
+			return false;
+		}
+		ValidationPolicy other = (ValidationPolicy) obj;
+		return mode == other.mode && delay == other.delay;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * mode.hashCode() + Long.hashCode(delay);
+	}
+
+	@Override
+	public String toString() {
+		return mode == Mode.DEBOUNCE ? mode + "(" + delay + "ms)" : mode.toString();
+	}
+}
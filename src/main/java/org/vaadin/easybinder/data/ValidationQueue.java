@@ -0,0 +1,319 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import org.vaadin.easybinder.data.BasicBinder.EasyBinding;
+
+import com.vaadin.data.BindingValidationStatus;
+import com.vaadin.event.FieldEvents.BlurNotifier;
+import com.vaadin.server.SerializableFunction;
+import com.vaadin.shared.Registration;
+import com.vaadin.ui.UI;
+import com.vaadin.ui.UIDetachedException;
+
+/**
+ * Validations of a {@link BasicBinder} that are not run immediately.
+ * <p>
+ * Holds the validations deferred by {@link ValidationPolicy validation
+ * policies} together with their debounce timer, and the state of asynchronous
+ * bean validations run by an executor. The results are applied to the binder
+ * while holding the session lock.
+ *
+ * @param <BEAN>
+ *            the bean type of the binder
+ * @see BasicBinder#setValidationPolicy(ValidationPolicy)
+ * @see BasicBinder#setAsyncValidation(Executor, SerializableFunction)
+ */
+public class ValidationQueue<BEAN> implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	protected final BasicBinder<BEAN> binder;
+
+	protected ValidationPolicy validationPolicy = ValidationPolicy.immediate();
+
+	protected ScheduledExecutorService validationScheduler;
+
+	// Bindings whose validation has been deferred by their validation policy
+	protected Set<EasyBinding<BEAN, ?, ?>> deferredValidations = new LinkedHashSet<>();
+
+	// Incremented whenever deferred validations are rescheduled or run
+	protected long deferredGeneration = 0;
+
+	protected transient ScheduledFuture<?> debounceTask;
+
+	// Blur listeners of bindings with an on-blur policy, removed with the binding
+	protected Map<EasyBinding<BEAN, ?, ?>, Registration> blurRegistrations = new IdentityHashMap<>();
+
+	protected Executor validationExecutor;
+
+	protected SerializableFunction<BEAN, BEAN> validationSnapshot;
+
+	// Incremented by every validation, used to discard outdated asynchronous results
+	protected long validationGeneration = 0;
+
+	protected boolean asyncValidationPending = false;
+
+	public ValidationQueue(BasicBinder<BEAN> binder) {
+		this.binder = Objects.requireNonNull(binder);
+	}
+
+	public void setValidationPolicy(ValidationPolicy validationPolicy) {
+		this.validationPolicy = Objects.requireNonNull(validationPolicy, "validationPolicy cannot be null");
+	}
+
+	public ValidationPolicy getValidationPolicy() {
+		return validationPolicy;
+	}
+
+	public void setValidationScheduler(ScheduledExecutorService validationScheduler) {
+		this.validationScheduler = validationScheduler;
+	}
+
+	public void setAsyncValidation(Executor executor, SerializableFunction<BEAN, BEAN> snapshot) {
+		if (executor != null) {
+			Objects.requireNonNull(snapshot, "snapshot cannot be null");
+		}
+		validationExecutor = executor;
+		validationSnapshot = snapshot;
+	}
+
+	public boolean isAsyncValidation() {
+		return validationExecutor != null;
+	}
+
+	public boolean isAsyncValidationPending() {
+		return asyncValidationPending;
+	}
+
+	/**
+	 * Defers the validation of a changed binding if its validation policy is
+	 * not immediate, scheduling the deferred validation as required by the
+	 * policy.
+	 *
+	 * @param binding
+	 *            the changed binding
+	 * @return {@code true} if the validation has been deferred
+	 */
+	public boolean defer(EasyBinding<BEAN, ?, ?> binding) {
+		ValidationPolicy policy = binding.validationPolicy != null ? binding.validationPolicy : validationPolicy;
+		if (policy.isImmediate()) {
+			return false;
+		}
+		deferredValidations.add(binding);
+		if (policy.getMode() == ValidationPolicy.Mode.DEBOUNCE) {
+			UI ui = UI.getCurrent();
+			if (ui != null) {
+				// Restart the quiet period, without a UI validation waits for a flush
+				long generation = cancelDebounce();
+				ScheduledExecutorService scheduler = validationScheduler != null ? validationScheduler
+						: ValidationExecutors.getDefaultScheduler();
+				Runnable timeout = () -> ui.access(() -> {
+					if (generation == deferredGeneration) {
+						validateDeferred();
+					}
+				});
+				debounceTask = scheduler.schedule(timeout, policy.getDelay(), TimeUnit.MILLISECONDS);
+			}
+		} else if (!blurRegistrations.containsKey(binding) && binding.getField() instanceof BlurNotifier) {
+			blurRegistrations.put(binding,
+					((BlurNotifier) binding.getField()).addBlurListener(e -> validateDeferred()));
+		}
+		return true;
+	}
+
+	/**
+	 * Runs the deferred validations and notifies the status handlers of the
+	 * deferred bindings and the status change listeners.
+	 */
+	public void validateDeferred() {
+		if (deferredValidations.isEmpty()) {
+			return;
+		}
+		List<EasyBinding<BEAN, ?, ?>> deferred = new ArrayList<>(deferredValidations);
+		cancel();
+		if (deferred.stream().allMatch(binder::canValidateIncrementally)) {
+			binder.validateProperties(deferred);
+		} else {
+			binder.validate();
+		}
+		for (EasyBinding<BEAN, ?, ?> binding : deferred) {
+			BindingValidationStatus<?> bindingStatus = binding.validate(false);
+			if (!binding.isDeliveredStatus(bindingStatus)) {
+				binding.deliverStatus(bindingStatus);
+			}
+		}
+		binder.fireStatusChangeEvent();
+	}
+
+	/**
+	 * Runs the deferred validations and validates the bean synchronously if an
+	 * asynchronous validation is pending. The result of the pending validation
+	 * is discarded.
+	 */
+	public void flush() {
+		validateDeferred();
+		if (!asyncValidationPending) {
+			return;
+		}
+		Executor executor = validationExecutor;
+		validationExecutor = null;
+		try {
+			binder.validate();
+		} finally {
+			validationExecutor = executor;
+		}
+		binder.fireStatusChangeEvent();
+	}
+
+	/**
+	 * Discards the deferred validations.
+	 */
+	public void cancel() {
+		deferredValidations.clear();
+		cancelDebounce();
+	}
+
+	/**
+	 * Discards the deferred validation of a binding that is removed and removes
+	 * its blur listener.
+	 *
+	 * @param binding
+	 *            the removed binding
+	 */
+	public void remove(EasyBinding<BEAN, ?, ?> binding) {
+		deferredValidations.remove(binding);
+		Registration blurRegistration = blurRegistrations.remove(binding);
+		if (blurRegistration != null) {
+			blurRegistration.remove();
+		}
+	}
+
+	/**
+	 * Discards the deferred validations and removes the blur listeners of all
+	 * bindings, used when all bindings are removed.
+	 */
+	public void clear() {
+		cancel();
+		blurRegistrations.values().forEach(Registration::remove);
+		blurRegistrations.clear();
+	}
+
+	private long cancelDebounce() {
+		if (debounceTask != null) {
+			debounceTask.cancel(false);
+			debounceTask = null;
+		}
+		return ++deferredGeneration;
+	}
+
+	/**
+	 * Starts a validation of the bean, outdating the results of the
+	 * asynchronous validations still running. The bean is validated
+	 * asynchronously if enabled, a UI is current and the executor accepts the
+	 * validation.
+	 *
+	 * @return {@code true} if an asynchronous validation has been started,
+	 *         {@code false} if the bean must be validated synchronously
+	 */
+	public boolean startValidation() {
+		validationGeneration++;
+		if (validationExecutor != null && binder.getBean() != null) {
+			UI ui = UI.getCurrent();
+			if (ui != null && validateAsync(ui)) {
+				return true;
+			}
+		}
+		asyncValidationPending = false;
+		return false;
+	}
+
+	/**
+	 * Validates a snapshot of the bean using the validation executor and applies
+	 * the result through {@link UI#access(Runnable)}, unless
+	 * another validation has been started in the meantime. If the UI has been
+	 * detached when the validation completes, the result is dropped and the
+	 * validation is no longer pending.
+	 *
+	 * @param ui
+	 *            the UI to apply the result in
+	 * @return {@code true} if the validation has been started, {@code false} if
+	 *         the executor rejected it
+	 */
+	protected boolean validateAsync(UI ui) {
+		long generation = validationGeneration;
+		BEAN snapshot = validationSnapshot.apply(binder.getBean());
+		Class<?>[] validationGroups = binder.groups;
+		Validator beanValidator = binder.validator;
+		asyncValidationPending = true;
+		Runnable task = () -> {
+			Set<ConstraintViolation<BEAN>> violations;
+			try {
+				violations = beanValidator.validate(snapshot, validationGroups);
+			} catch (RuntimeException e) {
+				// Validate again while holding the lock to report the error
+				violations = null;
+			}
+			Set<ConstraintViolation<BEAN>> result = violations;
+			try {
+				ui.access(() -> {
+					if (generation != validationGeneration) {
+						// Superseded by a newer validation
+						return;
+					}
+					if (result == null) {
+						validationGeneration++;
+						asyncValidationPending = false;
+						binder.applyConstraintViolations(binder.validator.validate(binder.getBean(), binder.groups));
+					} else {
+						asyncValidationPending = false;
+						binder.applyConstraintViolations(result);
+					}
+					binder.fireStatusChangeEvent();
+				});
+			} catch (UIDetachedException e) {
+				// Nobody is left to apply the result
+				if (generation == validationGeneration) {
+					asyncValidationPending = false;
+				}
+			}
+		};
+		try {
+			validationExecutor.execute(task);
+			return true;
+		} catch (RejectedExecutionException e) {
+			// Validate synchronously, e.g. while the executor is saturated or shut down
+			asyncValidationPending = false;
+			return false;
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2017 Lars Sønderby Jessen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.easybinder.data;
+
+import java.util.Objects;
+
+import javax.validation.Configuration;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+/**
+ * Holds the {@link ValidatorFactory} and {@link Validator} shared by all
+ * binders.
+ * <p>
+ * Building a validator factory is expensive and the factory caches the
+ * constraint metadata of every validated bean class, so a single factory is
+ * created on first use and its (thread-safe) validator is handed to every
+ * {@link BasicBinder} that is not given a validator explicitly.
+ * <p>
+ * Applications managing their own factory (e.g. an application scoped factory
+ * provided by a container) can register it with
+ * {@link #setValidatorFactory(ValidatorFactory)}.
+ * <p>
+ * The default factory can cache interpolated messages with a
+ * {@link CachingMessageInterpolator}, see {@link #setMessageCaching(boolean)}.
+ */
+public class ValidatorRegistry {
+	private static ValidatorRegistry instance;
+
+	protected ValidatorFactory validatorFactory;
+
+	protected Validator validator;
+
+	protected boolean ownsValidatorFactory;
+
+	protected boolean messageCaching = false;
+
+	public static synchronized ValidatorRegistry getInstance() {
+		if (instance == null) {
+			instance = new ValidatorRegistry();
+		}
+		return instance;
+	}
+
+	protected ValidatorRegistry() {
+	}
+
+	/**
+	 * Gets the shared validator factory, building the default factory on first
+	 * use.
+	 *
+	 * @return the shared validator factory, not null
+	 */
+	public synchronized ValidatorFactory getValidatorFactory() {
+		if (validatorFactory == null) {
+			Configuration<?> configuration = Validation.byDefaultProvider().configure();
+			if (messageCaching
+					&& configuration.getBootstrapConfiguration().getMessageInterpolatorClassName() == null) {
+				configuration.messageInterpolator(
+						new CachingMessageInterpolator(configuration.getDefaultMessageInterpolator()));
+			}
+			validatorFactory = configuration.buildValidatorFactory();
+			ownsValidatorFactory = true;
+		}
+		return validatorFactory;
+	}
+
+	/**
+	 * Enables or disables caching of interpolated messages in the default
+	 * factory.
+	 * <p>
+	 * When enabled and no message interpolator is configured in
+	 * {@code META-INF/validation.xml}, the default factory interpolates messages
+	 * with a {@link CachingMessageInterpolator} wrapping the default
+	 * interpolator of the provider. See {@link CachingMessageInterpolator} for
+	 * the constraints that must be excluded from caching. Takes effect when the
+	 * default factory is built, i.e. before the first use or after
+	 * {@link #close()}.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @param messageCaching
+	 *            {@code true} to cache interpolated messages
+	 */
+	public synchronized void setMessageCaching(boolean messageCaching) {
+		this.messageCaching = messageCaching;
+	}
+
+	public synchronized boolean isMessageCaching() {
+		return messageCaching;
+	}
+
+	/**
+	 * Gets the shared validator.
+	 *
+	 * @return the shared validator, not null
+	 */
+	public synchronized Validator getValidator() {
+		if (validator == null) {
+			validator = getValidatorFactory().getValidator();
+		}
+		return validator;
+	}
+
+	/**
+	 * Sets the validator factory used by binders created after this call.
+	 * <p>
+	 * Existing binders keep validating with the validator of the previous
+	 * factory, so the previous factory is not closed; rebind (or recreate) the
+	 * binders to use the new factory. Factories set by this method are never
+	 * closed by the registry.
+	 *
+	 * @param validatorFactory
+	 *            the validator factory to use, not null
+	 */
+	public synchronized void setValidatorFactory(ValidatorFactory validatorFactory) {
+		Objects.requireNonNull(validatorFactory, "Validator factory cannot be null");
+		this.validatorFactory = validatorFactory;
+		validator = null;
+		ownsValidatorFactory = false;
+	}
+
+	/**
+	 * Releases the shared validator. The default factory is closed if it was
+	 * built by this registry, a new one is built on next use.
+	 * <p>
+	 * Binders created before this call still hold the validator of the closed
+	 * factory and must not be used afterwards, e.g. only call this when the
+	 * application is shut down.
+	 */
+	public synchronized void close() {
+		if (validatorFactory != null && ownsValidatorFactory) {
+			validatorFactory.close();
+		}
+		validatorFactory = null;
+		validator = null;
+		ownsValidatorFactory = false;
+	}
+}
@@ -3,8 +3,13 @@ package org.vaadin.easybinder.data;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.AdditionalAnswers.delegatesTo;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -15,13 +20,23 @@ import static org.mockito.Mockito.when;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import javax.validation.Constraint;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
+import javax.validation.GroupSequence;
 import javax.validation.Payload;
+import javax.validation.Validator;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
@@ -36,12 +51,22 @@ import org.vaadin.easybinder.usagetest.BasicBinderGroupingTest.MyEntity2;
 import org.vaadin.easybinder.usagetest.BasicBinderGroupingTest.MyGroup;
 
 import com.vaadin.data.BindingValidationStatus;
+import com.vaadin.data.BindingValidationStatusHandler;
 import com.vaadin.data.HasValue;
+import com.vaadin.data.HasValue.ValueChangeEvent;
 import com.vaadin.data.HasValue.ValueChangeListener;
 import com.vaadin.data.converter.StringToIntegerConverter;
+import com.vaadin.event.FieldEvents.BlurEvent;
+import com.vaadin.event.FieldEvents.BlurListener;
+import com.vaadin.server.ErrorMessage;
+import com.vaadin.server.VaadinRequest;
+import com.vaadin.server.VaadinSession;
+import com.vaadin.shared.Registration;
 import com.vaadin.ui.Label;
 import com.vaadin.ui.TextField;
 import com.vaadin.ui.UI;
+import com.vaadin.ui.UIDetachedException;
+import com.vaadin.ui.VerticalLayout;
 
 import static info.solidsoft.mockito.java8.AssertionMatcher.assertArg;
 import static java.lang.annotation.ElementType.TYPE;
@@ -158,6 +183,23 @@ public class BasicBinderTest {
 		assertEquals(0, binder.getBindings().size());
 	}
 
+	@Test
+	public void testRemoveAllBindingsDiscardsPendingWork() {
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		MyEntity bean = new MyEntity();
+		binder.setBean(bean);
+		assertEquals(1, binder.getValidationStatus().getFieldValidationErrors().size());
+
+		binder.beginUpdate();
+		firstName.setValue("John");
+		binder.removeAllBindings();
+		binder.commitUpdate();
+
+		// The pending field change is not written and the status no longer reports the removed binding
+		assertNull(bean.getFirstName());
+		assertTrue(binder.getValidationStatus().getFieldValidationErrors().isEmpty());
+	}
+
 	@Test
 	public void testSetBeanBeforeBind() {
 		MyEntity entity = new MyEntity();
@@ -302,7 +344,8 @@ public class BasicBinderTest {
 		lastName.setValue("giraf");
 
 		verify(valueChangeListener, times(1)).valueChange(any());
-		verify(statusChangeListener, atLeast(1)).statusChange(assertArg(sc -> assertTrue(sc.hasValidationErrors())));
+		// Still has validation errors, status is unchanged
+		verify(statusChangeListener, never()).statusChange(any());
 		assertTrue(binder.getHasChanges());
 
 		reset(valueChangeListener);
@@ -329,8 +372,8 @@ public class BasicBinderTest {
 
 		binder.removeBean();
 
-		verify(statusChangeListener, atLeast(1)).statusChange(assertArg(sc -> assertFalse(sc.hasValidationErrors())));
-		verify(statusChangeListener, atLeast(1)).statusChange(assertArg(sc -> assertTrue(sc.hasConversionErrors())));
+		// Still has conversion errors, status is unchanged
+		verify(statusChangeListener, never()).statusChange(any());
 
 		reset(statusChangeListener);
 
@@ -561,4 +604,830 @@ public class BasicBinderTest {
 		assertFalse(binder.isValid());
 	}
 
+
+	@Test
+	public void testIncrementalValidation() {
+		binder.setValidator(mock(Validator.class, delegatesTo(binder.getValidator())));
+		binder.setIncrementalValidation(true);
+		assertTrue(binder.isIncrementalValidation());
+
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
+		binder.setBean(new MyEntity());
+
+		assertFalse(binder.isValid());
+		assertTrue(binder.getBinding("firstName").get().hasValidationError());
+		reset(binder.getValidator());
+
+		age.setValue("-11");
+
+		verify(binder.getValidator(), times(1)).validateProperty(any(), eq("age"));
+		verify(binder.getValidator(), never()).validate(any());
+		assertEquals(2, binder.getConstraintViolations().size());
+		assertTrue(binder.getBinding("age").get().hasValidationError());
+		assertTrue(binder.getBinding("firstName").get().hasValidationError());
+		assertEquals(2, binder.getValidationStatus().getFieldValidationErrors().size());
+
+		firstName.setValue("giraf");
+		age.setValue("10");
+
+		assertTrue(binder.isValid());
+		assertFalse(binder.getBinding("age").get().hasValidationError());
+		assertFalse(binder.getBinding("firstName").get().hasValidationError());
+		assertEquals(0, binder.getValidationStatus().getFieldValidationErrors().size());
+		verify(binder.getValidator(), never()).validate(any());
+	}
+
+	@Test
+	public void testIncrementalValidationClassLevelConstraint() {
+		TextField field1 = new TextField();
+		BasicBinder<MyEntityBeanLevel> binder = new BasicBinder<>();
+		binder.setIncrementalValidation(true);
+		binder.bind(field1, d -> d.getS1() == null ? "" : d.getS1(), (e, f) -> e.setS1("".equals(f) ? null : f), "s1");
+		binder.setBean(new MyEntityBeanLevel());
+
+		assertFalse(binder.isValid());
+
+		field1.setValue("Test");
+
+		// Class level constraints forces a full validation
+		assertTrue(binder.isValid());
+	}
+
+	@GroupSequence({ MyEntityGroupSequence.class, MyEntityGroupSequence.Second.class })
+	public static class MyEntityGroupSequence {
+		public interface Second {
+		}
+
+		@NotNull
+		String s1;
+
+		@NotNull(groups = Second.class)
+		String s2 = "x";
+	}
+
+	@Test
+	public void testIncrementalValidationGroupSequence() {
+		TextField field1 = new TextField();
+		TextField field2 = new TextField();
+		BasicBinder<MyEntityGroupSequence> binder = new BasicBinder<>();
+		binder.setIncrementalValidation(true);
+		binder.bind(field1, d -> d.s1 == null ? "" : d.s1, (e, f) -> e.s1 = "".equals(f) ? null : f, "s1");
+		binder.bind(field2, d -> d.s2 == null ? "" : d.s2, (e, f) -> e.s2 = "".equals(f) ? null : f, "s2");
+		binder.setBean(new MyEntityGroupSequence());
+		assertTrue(binder.getBinding("s1").get().hasValidationError());
+
+		// The sequence stops at the violation of s1, as in a full validation
+		field2.setValue("");
+		assertFalse(binder.getBinding("s2").get().hasValidationError());
+		assertEquals(1, binder.getConstraintViolations().size());
+
+		field1.setValue("Test");
+		assertFalse(binder.getBinding("s1").get().hasValidationError());
+		assertTrue(binder.getBinding("s2").get().hasValidationError());
+	}
+
+	@Test
+	public void testSharedValidator() {
+		BasicBinder<MyEntity> binder2 = new BasicBinder<>();
+		assertTrue(binder.getValidator() == binder2.getValidator());
+		assertTrue(ValidatorRegistry.getInstance().getValidator() == binder.getValidator());
+	}
+
+	@Test
+	public void testInjectedValidator() {
+		Validator validator = mock(Validator.class, delegatesTo(binder.getValidator()));
+		BasicBinder<MyEntity> binder = new BasicBinder<>(validator);
+		assertEquals(validator, binder.getValidator());
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.setBean(new MyEntity());
+		verify(validator, atLeast(1)).validate(any());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testBatchUpdate() {
+		binder.setValidator(mock(Validator.class, delegatesTo(binder.getValidator())));
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.bind(lastName, MyEntity::getLastName, MyEntity::setLastName, "lastName", new NullConverter<>(""));
+		binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
+		MyEntity bean = new MyEntity();
+		binder.setBean(bean);
+
+		BinderStatusChangeListener statusChangeListener = mock(BinderStatusChangeListener.class);
+		ValueChangeListener<?> valueChangeListener = mock(ValueChangeListener.class);
+		binder.addStatusChangeListener(statusChangeListener);
+		binder.addValueChangeListener(valueChangeListener);
+		reset(binder.getValidator());
+
+		binder.batch(() -> {
+			firstName.setValue("John");
+			binder.batch(() -> lastName.setValue("Doe"));
+			age.setValue("nan");
+			age.setValue("42");
+			assertTrue(binder.isUpdating());
+			assertEquals(null, bean.getFirstName());
+			verify(statusChangeListener, never()).statusChange(any());
+			verify(valueChangeListener, never()).valueChange(any());
+		});
+
+		assertFalse(binder.isUpdating());
+		assertEquals("John", bean.getFirstName());
+		assertEquals("Doe", bean.getLastName());
+		assertEquals(42, bean.getAge());
+		assertTrue(binder.isValid());
+		verify(binder.getValidator(), times(1)).validate(any());
+		verify(statusChangeListener, times(1)).statusChange(assertArg(sc -> assertFalse(sc.hasErrors())));
+		verify(valueChangeListener, times(3)).valueChange(any());
+	}
+
+	@Test
+	public void testBatchUpdateConversionError() {
+		binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
+		MyEntity bean = new MyEntity();
+		binder.setBean(bean);
+
+		BinderStatusChangeListener statusChangeListener = mock(BinderStatusChangeListener.class);
+		binder.addStatusChangeListener(statusChangeListener);
+
+		binder.beginUpdate();
+		age.setValue("nan");
+		binder.commitUpdate();
+
+		assertTrue(binder.getBinding("age").get().hasConversionError());
+		verify(statusChangeListener, times(1)).statusChange(assertArg(sc -> assertTrue(sc.hasConversionErrors())));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testCommitUpdateWithoutBegin() {
+		binder.commitUpdate();
+	}
+
+	@Test
+	public void testStatusChangeOnlyOnTransition() {
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.bind(lastName, MyEntity::getLastName, MyEntity::setLastName, "lastName", new NullConverter<>(""));
+
+		BinderStatusChangeListener statusChangeListener = mock(BinderStatusChangeListener.class);
+		binder.addStatusChangeListener(statusChangeListener);
+		assertFalse(binder.isAlwaysFireStatusChange());
+
+		binder.setBean(new MyEntity());
+		binder.setBean(new MyEntity());
+		lastName.setValue("Doe");
+
+		verify(statusChangeListener, times(1)).statusChange(assertArg(sc -> assertTrue(sc.hasValidationErrors())));
+
+		firstName.setValue("John");
+
+		verify(statusChangeListener, times(2)).statusChange(any());
+	}
+
+	@Test
+	public void testStatusChangeAlwaysFire() {
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.bind(lastName, MyEntity::getLastName, MyEntity::setLastName, "lastName", new NullConverter<>(""));
+
+		BinderStatusChangeListener statusChangeListener = mock(BinderStatusChangeListener.class);
+		binder.addStatusChangeListener(statusChangeListener);
+		binder.setAlwaysFireStatusChange(true);
+		assertTrue(binder.isAlwaysFireStatusChange());
+
+		binder.setBean(new MyEntity());
+		binder.setBean(new MyEntity());
+		lastName.setValue("Doe");
+
+		verify(statusChangeListener, times(3)).statusChange(assertArg(sc -> assertTrue(sc.hasValidationErrors())));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testRemoveListeners() {
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.setAlwaysFireStatusChange(true);
+		binder.setBean(new MyEntity());
+
+		BinderStatusChangeListener statusChangeListener = mock(BinderStatusChangeListener.class);
+		BinderStatusChangeListener statusChangeListener2 = mock(BinderStatusChangeListener.class);
+		ValueChangeListener<?> valueChangeListener = mock(ValueChangeListener.class);
+		Registration statusRegistration = binder.addStatusChangeListener(statusChangeListener);
+		binder.addStatusChangeListener(statusChangeListener2);
+		Registration valueRegistration = binder.addValueChangeListener(valueChangeListener);
+
+		firstName.setValue("John");
+
+		verify(statusChangeListener, times(1)).statusChange(any());
+		verify(statusChangeListener2, times(1)).statusChange(any());
+		verify(valueChangeListener, times(1)).valueChange(any());
+
+		statusRegistration.remove();
+		statusRegistration.remove();
+		valueRegistration.remove();
+
+		firstName.setValue("Jane");
+
+		verify(statusChangeListener, times(1)).statusChange(any());
+		verify(statusChangeListener2, times(2)).statusChange(any());
+		verify(valueChangeListener, times(1)).valueChange(any());
+	}
+
+	@Test
+	public void testChangedProperties() {
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.bind(lastName, MyEntity::getLastName, MyEntity::setLastName, "lastName", new NullConverter<>(""));
+		binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
+		MyEntity bean = new MyEntity();
+		bean.setFirstName("John");
+		binder.setBean(bean);
+
+		assertFalse(binder.getHasChanges());
+		assertTrue(binder.getChangedProperties().isEmpty());
+
+		firstName.setValue("Jane");
+		age.setValue("42");
+
+		assertTrue(binder.getHasChanges());
+		assertEquals(2, binder.getChangedProperties().size());
+		assertTrue(binder.getChangedProperties().contains("firstName"));
+		assertTrue(binder.getChangedProperties().contains("age"));
+
+		// Reverting the edit clears the change
+		firstName.setValue("John");
+		assertEquals(1, binder.getChangedProperties().size());
+		assertTrue(binder.getBinding("age").get().isChanged());
+
+		binder.resetProperty("age");
+		assertEquals(0, bean.getAge());
+		assertEquals("0", age.getValue());
+		assertFalse(binder.getHasChanges());
+
+		age.setValue("nan");
+		assertTrue(binder.getHasChanges());
+		assertTrue(binder.getChangedProperties().isEmpty());
+
+		binder.setBean(bean);
+		assertFalse(binder.getHasChanges());
+	}
+
+	@Test
+	public void testResetPropertyDoesNotCommit() {
+		binder.setValidator(mock(Validator.class, delegatesTo(binder.getValidator())));
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		MyEntity bean = new MyEntity();
+		bean.setFirstName("John");
+		binder.setBean(bean);
+		firstName.setValue("Jane");
+		List<ValueChangeEvent<?>> events = new ArrayList<>();
+		binder.addValueChangeListener(events::add);
+		reset(binder.getValidator());
+
+		binder.resetProperty("firstName");
+		assertEquals("John", bean.getFirstName());
+		assertEquals("John", firstName.getValue());
+		assertFalse(binder.getHasChanges());
+		assertTrue(events.isEmpty());
+		verify(binder.getValidator(), times(1)).validate(any());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testResetUnboundProperty() {
+		binder.resetProperty("firstName");
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testSetBeanSkipsUnchangedFields() {
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.bind(lastName, MyEntity::getLastName, MyEntity::setLastName, "lastName", new NullConverter<>(""));
+		MyEntity bean1 = new MyEntity();
+		bean1.setFirstName("John");
+		bean1.setLastName("Doe");
+		MyEntity bean2 = new MyEntity();
+		bean2.setFirstName("Jane");
+		bean2.setLastName("Doe");
+		binder.setBean(bean1);
+
+		HasValue.ValueChangeListener<String> firstNameListener = mock(HasValue.ValueChangeListener.class);
+		HasValue.ValueChangeListener<String> lastNameListener = mock(HasValue.ValueChangeListener.class);
+		firstName.addValueChangeListener(firstNameListener);
+		lastName.addValueChangeListener(lastNameListener);
+
+		binder.setBean(bean2);
+
+		verify(firstNameListener, times(1)).valueChange(any());
+		verify(lastNameListener, never()).valueChange(any());
+		assertEquals("Jane", firstName.getValue());
+		assertEquals("Doe", lastName.getValue());
+	}
+
+	@Test
+	public void testSkipUnchangedValidation() {
+		binder.setValidator(mock(Validator.class, delegatesTo(binder.getValidator())));
+		binder.setSkipUnchangedValidation(true);
+		assertTrue(binder.isSkipUnchangedValidation());
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.bind(lastName, MyEntity::getLastName, MyEntity::setLastName, "lastName", new NullConverter<>(""));
+		binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
+		MyEntity bean1 = new MyEntity();
+		bean1.setAge(-20);
+		MyEntity bean2 = new MyEntity();
+		bean2.setAge(-20);
+		bean2.setFirstName("Jane");
+		MyEntity bean3 = new MyEntity();
+
+		binder.setBean(bean1);
+		assertFalse(binder.isValid());
+		assertEquals(2, binder.getValidationStatus().getFieldValidationErrors().size());
+
+		reset(binder.getValidator());
+		binder.setBean(bean2);
+		verify(binder.getValidator(), never()).validate(any());
+		verify(binder.getValidator(), times(1)).validateProperty(any(), eq("firstName"));
+		verify(binder.getValidator(), never()).validateProperty(any(), eq("age"));
+		assertEquals(1, binder.getValidationStatus().getFieldValidationErrors().size());
+		assertTrue(binder.getBinding("age").get().getValidationError().isPresent());
+		assertFalse(binder.isValid());
+
+		binder.setBean(bean3);
+		assertEquals(1, binder.getValidationStatus().getFieldValidationErrors().size());
+		assertTrue(binder.getBinding("firstName").get().getValidationError().isPresent());
+		assertFalse(binder.getBinding("age").get().getValidationError().isPresent());
+
+		// Without a previous bean the entire bean is validated
+		binder.removeBean();
+		reset(binder.getValidator());
+		binder.setBean(bean1);
+		verify(binder.getValidator(), times(1)).validate(any());
+		assertEquals(2, binder.getValidationStatus().getFieldValidationErrors().size());
+
+		// Setting the same bean again after it was changed outside the binder validates it
+		bean1.setFirstName("John");
+		bean1.setAge(20);
+		binder.setBean(bean1);
+		assertEquals(0, binder.getValidationStatus().getFieldValidationErrors().size());
+		assertTrue(binder.isValid());
+	}
+
+	@Test
+	public void testLazyActivation() {
+		binder.setLazyActivation(true);
+		assertTrue(binder.isLazyActivation());
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.bind(lastName, MyEntity::getLastName, MyEntity::setLastName, "lastName", new NullConverter<>(""));
+
+		UI ui = new UI() {
+			@Override
+			protected void init(VaadinRequest request) {
+			}
+		};
+		VaadinSession session = mock(VaadinSession.class);
+		when(session.hasLock()).thenReturn(true);
+		when(session.getLocale()).thenReturn(Locale.ENGLISH);
+		AtomicInteger connectorId = new AtomicInteger();
+		when(session.createConnectorId(any())).thenAnswer(e -> String.valueOf(connectorId.incrementAndGet()));
+		ui.setSession(session);
+		VerticalLayout layout = new VerticalLayout(firstName);
+		ui.setContent(layout);
+
+		MyEntity bean = new MyEntity();
+		bean.setLastName("Doe");
+		binder.setBean(bean);
+
+		assertFalse(binder.getBinding("firstName").get().isDeferred());
+		assertTrue(binder.getBinding("lastName").get().isDeferred());
+		assertEquals("", lastName.getValue());
+		// Validation covers the deferred properties
+		assertFalse(binder.isValid());
+
+		layout.addComponent(lastName);
+		assertFalse(binder.getBinding("lastName").get().isDeferred());
+		assertEquals("Doe", lastName.getValue());
+		assertEquals("Doe", bean.getLastName());
+		assertFalse(binder.getHasChanges());
+
+		// A value set before attaching cancels the deferred update
+		layout.removeComponent(lastName);
+		MyEntity bean2 = new MyEntity();
+		bean2.setLastName("Smith");
+		binder.setBean(bean2);
+		assertTrue(binder.getBinding("lastName").get().isDeferred());
+		lastName.setValue("Jones");
+		assertFalse(binder.getBinding("lastName").get().isDeferred());
+		assertEquals("Jones", bean2.getLastName());
+		layout.addComponent(lastName);
+		assertEquals("Jones", lastName.getValue());
+	}
+
+	@Test
+	public void testRefreshFields() {
+		binder.setValidator(mock(Validator.class, delegatesTo(binder.getValidator())));
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.bind(lastName, MyEntity::getLastName, MyEntity::setLastName, "lastName", new NullConverter<>(""));
+		binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
+		MyEntity bean = new MyEntity();
+		bean.setFirstName("John");
+		binder.setBean(bean);
+
+		lastName.setValue("Doe");
+		age.setValue("42");
+		assertEquals(2, binder.getChangedProperties().size());
+
+		// Backend updates
+		bean.setAge(-20);
+		bean.setFirstName(null);
+		reset(binder.getValidator());
+		binder.refreshFields("age", "firstName");
+
+		verify(binder.getValidator(), never()).validate(any());
+		verify(binder.getValidator(), times(1)).validateProperty(any(), eq("age"));
+		verify(binder.getValidator(), times(1)).validateProperty(any(), eq("firstName"));
+		assertEquals("-20", age.getValue());
+		assertEquals("", firstName.getValue());
+		assertEquals("Doe", lastName.getValue());
+		assertEquals(1, binder.getChangedProperties().size());
+		assertTrue(binder.getChangedProperties().contains("lastName"));
+		assertTrue(binder.getBinding("age").get().getValidationError().isPresent());
+		assertTrue(binder.getBinding("firstName").get().getValidationError().isPresent());
+		assertFalse(binder.isValid());
+
+		bean.setAge(1);
+		binder.refreshFields(e -> e.startsWith("a"));
+		assertEquals("1", age.getValue());
+		assertFalse(binder.getBinding("age").get().getValidationError().isPresent());
+		assertEquals(1, binder.getValidationStatus().getFieldValidationErrors().size());
+	}
+
+	@Test
+	public void testFieldCommitStages() {
+		binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
+		MyEntity bean = new MyEntity();
+		binder.setBean(bean);
+
+		List<FieldCommitStage> stages = new ArrayList<>();
+		Registration registration = binder.addFieldCommitListener((binding, stage, nanos) -> {
+			assertEquals(binder.getBinding("age").get(), binding);
+			assertTrue(nanos >= 0);
+			stages.add(stage);
+		});
+		ValueChangeListener<?> valueChangeListener = mock(ValueChangeListener.class);
+		binder.addValueChangeListener(valueChangeListener);
+
+		age.setValue("42");
+		assertEquals(Arrays.asList(FieldCommitStage.values()), stages);
+		assertEquals(42, bean.getAge());
+		verify(valueChangeListener, times(1)).valueChange(any());
+
+		// Value change listeners are not notified about conversion errors
+		stages.clear();
+		age.setValue("nan");
+		assertEquals(Arrays.asList(FieldCommitStage.values()), stages);
+		verify(valueChangeListener, times(1)).valueChange(any());
+
+		stages.clear();
+		registration.remove();
+		age.setValue("1");
+		assertTrue(stages.isEmpty());
+		verify(valueChangeListener, times(2)).valueChange(any());
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Test
+	public void testNotifyOnlyChangedBindingStatus() {
+		EasyBinding<MyEntity, String, String> firstNameBinding = binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		EasyBinding<MyEntity, String, String> lastNameBinding = binder.bind(lastName, MyEntity::getLastName, MyEntity::setLastName, "lastName", new NullConverter<>(""));
+		EasyBinding<MyEntity, String, Integer> ageBinding = binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
+		firstNameBinding.statusHandler = mock(BindingValidationStatusHandler.class);
+		lastNameBinding.statusHandler = mock(BindingValidationStatusHandler.class);
+		ageBinding.statusHandler = mock(BindingValidationStatusHandler.class);
+		ArgumentCaptor<BindingValidationStatus> captor = ArgumentCaptor.forClass(BindingValidationStatus.class);
+
+		binder.setBean(new MyEntity());
+		verify(firstNameBinding.statusHandler, times(1)).statusChange(captor.capture());
+		assertTrue(captor.getValue().isError());
+		verify(lastNameBinding.statusHandler, times(1)).statusChange(any());
+		verify(ageBinding.statusHandler, times(1)).statusChange(any());
+
+		lastName.setValue("Doe");
+		firstName.setValue("John");
+		verify(firstNameBinding.statusHandler, times(2)).statusChange(captor.capture());
+		assertFalse(captor.getValue().isError());
+		verify(lastNameBinding.statusHandler, times(1)).statusChange(any());
+		verify(ageBinding.statusHandler, times(1)).statusChange(any());
+
+		age.setValue("nan");
+		verify(ageBinding.statusHandler, times(2)).statusChange(captor.capture());
+		assertEquals("Must be a number", captor.getValue().getMessage().get());
+		age.setValue("-20");
+		verify(ageBinding.statusHandler, times(3)).statusChange(captor.capture());
+		assertFalse("Must be a number".equals(captor.getValue().getMessage().get()));
+		age.setValue("-21");
+		verify(ageBinding.statusHandler, times(3)).statusChange(any());
+		verify(firstNameBinding.statusHandler, times(2)).statusChange(any());
+		verify(lastNameBinding.statusHandler, times(1)).statusChange(any());
+
+		// Explicit notification reaches all bindings
+		binder.getValidationStatus().notifyBindingValidationStatusHandlers();
+		verify(lastNameBinding.statusHandler, times(2)).statusChange(any());
+	}
+
+	@Test
+	public void testValidationStatusViews() {
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.bind(lastName, MyEntity::getLastName, MyEntity::setLastName, "lastName", new NullConverter<>(""));
+		binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
+		binder.setBean(new MyEntity());
+
+		BasicBinderValidationStatus<MyEntity> status = binder.getValidationStatus();
+		assertTrue(status.hasErrors());
+		assertEquals(1, status.getFieldErrorCount());
+		assertEquals(0, status.getBeanErrorCount());
+		assertEquals(1, status.getFieldValidationErrors().size());
+		assertTrue(status.getFieldValidationErrors() == status.getFieldValidationErrors());
+		assertTrue(status.getBeanValidationErrors().isEmpty());
+		assertEquals(1, status.getValidationErrors().size());
+		assertTrue(status.getFieldValidationStatus("firstName").get().isError());
+		assertFalse(status.getFieldValidationStatus("lastName").get().isError());
+		assertFalse(status.getFieldValidationStatus("unknown").isPresent());
+
+		// Unchanged binding statuses are reused
+		BindingValidationStatus<?> lastNameStatus = status.getFieldValidationStatus("lastName").get();
+		BindingValidationStatus<?> firstNameStatus = status.getFieldValidationStatus("firstName").get();
+		firstName.setValue("John");
+		status = binder.getValidationStatus();
+		assertFalse(status.hasErrors());
+		assertEquals(0, status.getFieldErrorCount());
+		assertTrue(lastNameStatus == status.getFieldValidationStatus("lastName").get());
+		assertFalse(firstNameStatus == status.getFieldValidationStatus("firstName").get());
+	}
+
+	@Test
+	public void testConstraintViolationCache() {
+		binder.setValidator(mock(Validator.class, delegatesTo(binder.getValidator())));
+		ConstraintViolationCache cache = new ConstraintViolationCache();
+		binder.setConstraintViolationCache(cache);
+		assertEquals(cache, binder.getConstraintViolationCache());
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.bind(lastName, MyEntity::getLastName, MyEntity::setLastName, "lastName", new NullConverter<>(""));
+		binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
+
+		MyEntity bean1 = new MyEntity();
+		bean1.setAge(-20);
+		MyEntity bean2 = new MyEntity();
+		bean2.setAge(-20);
+		binder.setBean(bean1);
+		assertEquals(2, binder.getValidationStatus().getFieldErrorCount());
+		assertEquals(2, cache.getMissCount());
+
+		reset(binder.getValidator());
+		binder.setBean(bean2);
+		assertEquals(2, binder.getValidationStatus().getFieldErrorCount());
+		assertEquals(2, cache.getHitCount());
+		verify(binder.getValidator(), never()).validate(any());
+		verify(binder.getValidator(), never()).validateValue(any(), any(), any());
+
+		firstName.setValue("John");
+		age.setValue("-20");
+		age.setValue("1");
+		assertTrue(binder.isValid());
+		// Full validations reuse the result of the unchanged property
+		assertEquals(4, cache.getHitCount());
+		assertEquals(4, cache.getMissCount());
+	}
+
+	@Test
+	public void testAsyncValidation() {
+		UI ui = mock(UI.class);
+		when(ui.access(any())).thenAnswer(e -> {
+			((Runnable) e.getArgument(0)).run();
+			return null;
+		});
+		UI.setCurrent(ui);
+		try {
+			List<Runnable> tasks = new ArrayList<>();
+			binder.setAsyncValidation(tasks::add, e -> {
+				MyEntity copy = new MyEntity();
+				copy.setFirstName(e.getFirstName());
+				copy.setLastName(e.getLastName());
+				copy.setAge(e.getAge());
+				return copy;
+			});
+			assertTrue(binder.isAsyncValidation());
+			binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+			binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
+			List<BinderStatusChangeEvent> events = new ArrayList<>();
+			binder.addStatusChangeListener(events::add);
+
+			binder.setBean(new MyEntity());
+			assertEquals(1, tasks.size());
+			assertTrue(binder.isValidationPending());
+			assertTrue(events.get(events.size() - 1).isValidationPending());
+
+			tasks.remove(0).run();
+			assertFalse(binder.isValidationPending());
+			assertFalse(events.get(events.size() - 1).isValidationPending());
+			assertTrue(events.get(events.size() - 1).hasValidationErrors());
+			assertTrue(binder.getBinding("firstName").get().getValidationError().isPresent());
+
+			// Results superseded by newer edits are discarded
+			firstName.setValue("John");
+			age.setValue("-20");
+			assertEquals(2, tasks.size());
+			tasks.remove(1).run();
+			assertFalse(binder.isValidationPending());
+			assertTrue(binder.getBinding("age").get().getValidationError().isPresent());
+			assertFalse(binder.getBinding("firstName").get().getValidationError().isPresent());
+			tasks.remove(0).run();
+			assertTrue(binder.getBinding("age").get().getValidationError().isPresent());
+
+			// isValid validates synchronously if a validation is pending
+			age.setValue("1");
+			assertTrue(binder.isValidationPending());
+			assertTrue(binder.isValid());
+			assertFalse(binder.isValidationPending());
+			tasks.clear();
+
+			binder.setAsyncValidation(null, null);
+			assertFalse(binder.isAsyncValidation());
+			firstName.setValue("");
+			assertTrue(tasks.isEmpty());
+			assertFalse(binder.isValid());
+		} finally {
+			UI.setCurrent(null);
+		}
+	}
+
+	@Test
+	public void testAsyncValidationRejected() {
+		UI ui = mock(UI.class);
+		UI.setCurrent(ui);
+		try {
+			binder.setAsyncValidation(e -> {
+				throw new RejectedExecutionException();
+			}, e -> new MyEntity());
+			binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+			binder.setBean(new MyEntity());
+
+			// Validated synchronously
+			assertFalse(binder.isValidationPending());
+			assertTrue(binder.getBinding("firstName").get().getValidationError().isPresent());
+			firstName.setValue("John");
+			assertFalse(binder.isValidationPending());
+			assertFalse(binder.getBinding("firstName").get().getValidationError().isPresent());
+		} finally {
+			UI.setCurrent(null);
+		}
+	}
+
+	@Test
+	public void testAsyncValidationDetachedUI() {
+		UI ui = mock(UI.class);
+		when(ui.access(any())).thenThrow(new UIDetachedException());
+		UI.setCurrent(ui);
+		try {
+			List<Runnable> tasks = new ArrayList<>();
+			binder.setAsyncValidation(tasks::add, e -> new MyEntity());
+			binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+			binder.setBean(new MyEntity());
+			assertTrue(binder.isValidationPending());
+
+			tasks.remove(0).run();
+			assertFalse(binder.isValidationPending());
+		} finally {
+			UI.setCurrent(null);
+		}
+	}
+
+	@Test
+	public void testDebouncedValidation() {
+		UI ui = mock(UI.class);
+		when(ui.access(any())).thenAnswer(e -> {
+			((Runnable) e.getArgument(0)).run();
+			return null;
+		});
+		ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+		@SuppressWarnings("rawtypes")
+		ScheduledFuture future = mock(ScheduledFuture.class);
+		when(scheduler.schedule(any(Runnable.class), eq(300L), eq(TimeUnit.MILLISECONDS))).thenReturn(future);
+		UI.setCurrent(ui);
+		try {
+			binder.setValidationScheduler(scheduler);
+			binder.setValidationPolicy(ValidationPolicy.debounce(300));
+			binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+			binder.bind(age, MyEntity::getAge, MyEntity::setAge, "age", new StringLengthConverterValidator("Must be a number", 1, null).chain(new StringToIntegerConverter("Must be a number")));
+			binder.getBinding("age").get().setValidationPolicy(ValidationPolicy.immediate());
+			List<BinderStatusChangeEvent> events = new ArrayList<>();
+			binder.addStatusChangeListener(events::add);
+			MyEntity bean = new MyEntity();
+			binder.setBean(bean);
+			assertTrue(binder.getBinding("firstName").get().getValidationError().isPresent());
+			int eventCount = events.size();
+
+			// Values are converted immediately, validation waits for the quiet period
+			firstName.setValue("J");
+			firstName.setValue("Jo");
+			assertEquals("Jo", bean.getFirstName());
+			assertTrue(binder.getBinding("firstName").get().getValidationError().isPresent());
+			assertEquals(eventCount, events.size());
+			verify(future).cancel(false);
+
+			ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+			verify(scheduler, times(2)).schedule(task.capture(), eq(300L), eq(TimeUnit.MILLISECONDS));
+			// The outdated timer does nothing
+			task.getAllValues().get(0).run();
+			assertTrue(binder.getBinding("firstName").get().getValidationError().isPresent());
+			task.getAllValues().get(1).run();
+			assertFalse(binder.getBinding("firstName").get().getValidationError().isPresent());
+			assertEquals(eventCount + 1, events.size());
+
+			// Bindings with their own policy are not deferred
+			age.setValue("x");
+			assertTrue(binder.getBinding("age").get().hasConversionError());
+			assertEquals(eventCount + 2, events.size());
+			verify(scheduler, times(2)).schedule(any(Runnable.class), eq(300L), eq(TimeUnit.MILLISECONDS));
+		} finally {
+			UI.setCurrent(null);
+		}
+	}
+
+	@Test
+	public void testDeferredValidationFlush() {
+		binder.setValidationPolicy(ValidationPolicy.debounce(300));
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.setBean(new MyEntity());
+		assertFalse(binder.isValid());
+
+		// Without a UI validation waits for a flush
+		firstName.setValue("John");
+		assertTrue(binder.getBinding("firstName").get().getValidationError().isPresent());
+		assertTrue(binder.isValid());
+		assertFalse(binder.getBinding("firstName").get().getValidationError().isPresent());
+
+		// Deferred validations are discarded when a new bean is set
+		firstName.setValue("");
+		binder.setBean(new MyEntity());
+		assertFalse(binder.isValid());
+	}
+
+	@Test
+	public void testBlurValidation() {
+		binder.setValidationPolicy(ValidationPolicy.onBlur());
+		binder.setIncrementalValidation(true);
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.setBean(new MyEntity());
+		firstName.setValue("John");
+		assertTrue(binder.getBinding("firstName").get().getValidationError().isPresent());
+
+		for (Object listener : firstName.getListeners(BlurEvent.class)) {
+			((BlurListener) listener).blur(new BlurEvent(firstName));
+		}
+		assertFalse(binder.getBinding("firstName").get().getValidationError().isPresent());
+		assertEquals(1, firstName.getListeners(BlurEvent.class).size());
+
+		firstName.setValue("");
+		assertEquals(1, firstName.getListeners(BlurEvent.class).size());
+		binder.removeBinding(firstName);
+		assertTrue(firstName.getListeners(BlurEvent.class).isEmpty());
+
+		// Removing all bindings removes the blur listeners as well
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.bind(lastName, MyEntity::getLastName, MyEntity::setLastName, "lastName", new NullConverter<>(""));
+		firstName.setValue("Jane");
+		lastName.setValue("Doe");
+		assertEquals(1, firstName.getListeners(BlurEvent.class).size());
+		assertEquals(1, lastName.getListeners(BlurEvent.class).size());
+		binder.removeAllBindings();
+		assertTrue(firstName.getListeners(BlurEvent.class).isEmpty());
+		assertTrue(lastName.getListeners(BlurEvent.class).isEmpty());
+	}
+
+	@Test
+	public void testUserErrors() {
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.setBean(new MyEntity());
+		ErrorMessage error = firstName.getComponentError();
+		assertNotNull(error);
+
+		// The error is kept while the message is unchanged
+		binder.setBean(new MyEntity());
+		assertSame(error, firstName.getComponentError());
+
+		// Errors are not shared between components
+		BasicBinder<MyEntity> other = new BasicBinder<>();
+		TextField otherName = new TextField();
+		other.bind(otherName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		other.setBean(new MyEntity());
+		assertNotSame(error, otherName.getComponentError());
+		assertEquals(error.getFormattedHtmlMessage(), otherName.getComponentError().getFormattedHtmlMessage());
+	}
+
+	@Test
+	public void testAsyncValidationWithoutUI() {
+		List<Runnable> tasks = new ArrayList<>();
+		binder.setAsyncValidation(tasks::add, e -> e);
+		binder.bind(firstName, e -> e.getFirstName(), (e,f) -> e.setFirstName(f), "firstName", new NullConverter<>(""));
+		binder.setBean(new MyEntity());
+		assertTrue(tasks.isEmpty());
+		assertFalse(binder.isValidationPending());
+		assertFalse(binder.isValid());
+	}
 }
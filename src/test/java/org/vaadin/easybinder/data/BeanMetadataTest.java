@@ -0,0 +1,119 @@
+package org.vaadin.easybinder.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import org.junit.Test;
+import org.vaadin.easybinder.data.BeanMetadata.PropertyMetadata;
+
+import com.vaadin.data.RequiredFieldConfigurator;
+import com.vaadin.ui.TextField;
+
+public class BeanMetadataTest {
+
+	public static class Address {
+		@NotNull
+		String street;
+
+		public String getStreet() {
+			return street;
+		}
+
+		public void setStreet(String street) {
+			this.street = street;
+		}
+	}
+
+	public static class Base {
+		@Min(1)
+		int count;
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+	}
+
+	public static class MyEntity extends Base {
+		String name;
+
+		Address address;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Address getAddress() {
+			return address;
+		}
+
+		public void setAddress(Address address) {
+			this.address = address;
+		}
+
+		public String getComputed() {
+			return name;
+		}
+	}
+
+	@Test
+	public void testShared() {
+		BeanMetadata<MyEntity> metadata = BeanMetadata.get(MyEntity.class);
+		assertSame(metadata, BeanMetadata.get(MyEntity.class));
+		assertSame(metadata.getProperty("name").get(), metadata.getProperty("name").get());
+		assertSame(metadata.getPropertySet(), new ReflectionBinder<>(MyEntity.class).propertySet);
+	}
+
+	@Test
+	public void testProperties() {
+		BeanMetadata<MyEntity> metadata = BeanMetadata.get(MyEntity.class);
+		PropertyMetadata<MyEntity> count = metadata.getProperty("count").get();
+		assertEquals(int.class, count.getModelType());
+		assertEquals(Base.class, count.getField().get().getDeclaringClass());
+		assertTrue(count.isRequired(BeanMetadata.DEFAULT_REQUIRED_CONFIGURATOR));
+		assertFalse(count.isRequired(RequiredFieldConfigurator.NOT_NULL));
+
+		PropertyMetadata<MyEntity> name = metadata.getProperty("name").get();
+		assertEquals(String.class, name.getModelType());
+		assertFalse(name.isRequired(BeanMetadata.DEFAULT_REQUIRED_CONFIGURATOR));
+
+		PropertyMetadata<MyEntity> street = metadata.getProperty("address.street").get();
+		assertEquals("address.street", street.getDefinition().getName());
+		assertEquals(Address.class, street.getField().get().getDeclaringClass());
+		assertTrue(street.isRequired(RequiredFieldConfigurator.NOT_NULL));
+
+		PropertyMetadata<MyEntity> computed = metadata.getProperty("computed").get();
+		assertFalse(computed.getField().isPresent());
+		assertFalse(computed.isRequired(BeanMetadata.DEFAULT_REQUIRED_CONFIGURATOR));
+
+		assertFalse(metadata.getProperty("unknown").isPresent());
+	}
+
+	@Test
+	public void testRequiredIndicator() {
+		ReflectionBinder<MyEntity> binder = new ReflectionBinder<>(MyEntity.class);
+		TextField count = new TextField();
+		TextField name = new TextField();
+		binder.bind(count, "count");
+		binder.bind(name, "name");
+		assertTrue(count.isRequiredIndicatorVisible());
+		assertFalse(name.isRequiredIndicatorVisible());
+
+		binder.setRequiredConfigurator(null);
+		TextField street = new TextField();
+		binder.bind(street, "address.street");
+		assertFalse(street.isRequiredIndicatorVisible());
+	}
+}
@@ -82,6 +82,32 @@ public class BinderAdapterTest {
 		}
 	}
 
+	@Test
+	public void testWriteBeanResetsChanges() throws ValidationException {
+		AutoBinder<Flight> binder = new AutoBinder<>(Flight.class);
+		BinderAdapter<Flight> adapter = new BinderAdapter<>(binder, Flight.class);
+		binder.buildAndBind("flightId");
+
+		Flight f1 = new Flight();
+		FlightId id1 = new FlightId();
+		id1.setDate(new Date());
+		id1.setAirline("XX");
+		id1.setFlightNumber(999);
+		id1.setLegType(LegType.DEPARTURE);
+		f1.setFlightId(id1);
+		adapter.readBean(f1);
+		assertFalse(adapter.hasChanges());
+
+		TextField field = (TextField) binder.getFieldForProperty("flightId.airline").get();
+		field.setValue("YY");
+		assertTrue(adapter.hasChanges());
+
+		Flight f2 = new Flight();
+		adapter.writeBean(f2);
+		assertEquals("YY", f2.getFlightId().getAirline());
+		assertFalse(adapter.hasChanges());
+	}
+
 	@Test
 	public void testReadWriteBeanEmptySetter() throws ValidationException {
 		@SuppressWarnings("unchecked")
@@ -0,0 +1,165 @@
+package org.vaadin.easybinder.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.validation.constraints.NotNull;
+
+import org.junit.Test;
+import org.vaadin.easybinder.data.BinderPool.PooledBinder;
+
+import com.vaadin.ui.Component;
+import com.vaadin.ui.TextField;
+import com.vaadin.ui.VerticalLayout;
+
+public class BinderPoolTest {
+
+	public static class MyEntity {
+		@NotNull
+		String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class OtherEntity {
+		String title;
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+	}
+
+	@Test
+	public void testReuse() {
+		BinderPool pool = new BinderPool();
+		PooledBinder<MyEntity> form = pool.acquire(MyEntity.class);
+		assertTrue(form.isInUse());
+		assertEquals(1, form.getComponents().length);
+
+		VerticalLayout layout = new VerticalLayout();
+		layout.addComponents(form.getComponents());
+		MyEntity bean = new MyEntity();
+		bean.setName("John");
+		form.getBinder().setBean(bean);
+		assertEquals(0, pool.getIdleCount());
+
+		form.release();
+		assertFalse(form.isInUse());
+		assertNull(form.getBinder().getBean());
+		assertNull(form.getComponents()[0].getParent());
+		assertEquals(1, pool.getIdleCount());
+
+		PooledBinder<MyEntity> form2 = pool.acquire(MyEntity.class);
+		assertSame(form, form2);
+		assertSame(form.getComponents()[0], form2.getComponents()[0]);
+		assertEquals(0, pool.getIdleCount());
+
+		MyEntity bean2 = new MyEntity();
+		bean2.setName("Jane");
+		form2.getBinder().setBean(bean2);
+		assertEquals("Jane", ((TextField) form2.getComponents()[0]).getValue());
+		((TextField) form2.getComponents()[0]).setValue("Joe");
+		assertEquals("Joe", bean2.getName());
+		assertEquals("John", bean.getName());
+	}
+
+	@Test
+	public void testKeys() {
+		BinderPool pool = new BinderPool();
+		AtomicInteger builds = new AtomicInteger();
+		PooledBinder<MyEntity> form = pool.acquire(MyEntity.class, "a", e -> {
+			builds.incrementAndGet();
+			return e.buildAndBind();
+		});
+		form.release();
+
+		PooledBinder<MyEntity> other = pool.acquire(MyEntity.class, "b", e -> {
+			builds.incrementAndGet();
+			return e.buildAndBind();
+		});
+		assertNotSame(form, other);
+		assertEquals(2, builds.get());
+
+		PooledBinder<OtherEntity> otherClass = pool.acquire(OtherEntity.class, "a", e -> e.buildAndBind());
+		assertNotSame(form, otherClass);
+
+		PooledBinder<MyEntity> same = pool.acquire(MyEntity.class, "a", e -> {
+			builds.incrementAndGet();
+			return e.buildAndBind();
+		});
+		assertSame(form, same);
+		assertEquals(2, builds.get());
+	}
+
+	@Test
+	public void testEviction() {
+		BinderPool pool = new BinderPool(1);
+		PooledBinder<MyEntity> form1 = pool.acquire(MyEntity.class);
+		PooledBinder<MyEntity> form2 = pool.acquire(MyEntity.class);
+		form1.release();
+		form2.release();
+
+		assertEquals(1, pool.getIdleCount());
+		// The least recently released binder is evicted and unbound
+		assertFalse(form1.getBinder().getBinding("name").isPresent());
+		assertTrue(form2.getBinder().getBinding("name").isPresent());
+		assertSame(form2, pool.acquire(MyEntity.class));
+
+		form2.release();
+		pool.clear();
+		assertEquals(0, pool.getIdleCount());
+		assertFalse(form2.getBinder().getBinding("name").isPresent());
+	}
+
+	@Test
+	public void testNoPooling() {
+		BinderPool pool = new BinderPool(0);
+		PooledBinder<MyEntity> form = pool.acquire(MyEntity.class);
+		form.release();
+		assertEquals(0, pool.getIdleCount());
+		assertNotSame(form, pool.acquire(MyEntity.class));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testDoubleRelease() {
+		BinderPool pool = new BinderPool();
+		PooledBinder<MyEntity> form = pool.acquire(MyEntity.class);
+		form.release();
+		form.release();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testReleaseToOtherPool() {
+		PooledBinder<MyEntity> form = new BinderPool().acquire(MyEntity.class);
+		new BinderPool().release(form);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeMaxIdle() {
+		new BinderPool(-1);
+	}
+
+	@Test
+	public void testComponentsCopy() {
+		PooledBinder<MyEntity> form = new BinderPool().acquire(MyEntity.class);
+		Component[] components = form.getComponents();
+		components[0] = null;
+		assertTrue(form.getComponents()[0] != null);
+	}
+}
@@ -0,0 +1,154 @@
+package org.vaadin.easybinder.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.vaadin.easybinder.data.BasicBinder.EasyBinding;
+
+import com.vaadin.data.Converter;
+import com.vaadin.ui.TextField;
+
+public class BindingTableTest {
+
+	public static class MyEntity {
+		String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	BasicBinder<MyEntity> binder = new BasicBinder<>();
+	BindingTable<MyEntity> table = new BindingTable<>();
+
+	private List<EasyBinding<MyEntity, String, String>> createBindings(int count) {
+		List<EasyBinding<MyEntity, String, String>> bindings = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			EasyBinding<MyEntity, String, String> binding = new EasyBinding<>(binder, new TextField(),
+					MyEntity::getName, MyEntity::setName, "name" + i, Converter.identity());
+			bindings.add(binding);
+		}
+		return bindings;
+	}
+
+	@Test
+	public void testAddGet() {
+		List<EasyBinding<MyEntity, String, String>> bindings = createBindings(40);
+		bindings.forEach(table::add);
+		assertEquals(40, table.size());
+		for (int i = 0; i < 40; i++) {
+			assertEquals(bindings.get(i), table.get(i));
+			assertEquals(bindings.get(i), table.getBinding(bindings.get(i).getField()));
+		}
+	}
+
+	@Test
+	public void testGetBindingOfFieldBoundTwice() {
+		List<EasyBinding<MyEntity, String, String>> bindings = createBindings(3);
+		EasyBinding<MyEntity, String, String> second = new EasyBinding<>(binder, bindings.get(0).getField(),
+				MyEntity::getName, MyEntity::setName, "other", Converter.identity());
+		bindings.forEach(table::add);
+		table.add(second);
+		assertEquals(bindings.get(0), table.getBinding(second.getField()));
+
+		table.remove(bindings.get(0));
+		assertEquals(second, table.getBinding(second.getField()));
+		table.remove(second);
+		assertNull(table.getBinding(second.getField()));
+	}
+
+	@Test
+	public void testBulkRemoveOfFieldsBoundMoreThanOnce() {
+		List<EasyBinding<MyEntity, String, String>> first = createBindings(50);
+		List<EasyBinding<MyEntity, String, String>> second = new ArrayList<>();
+		List<EasyBinding<MyEntity, String, String>> third = new ArrayList<>();
+		for (EasyBinding<MyEntity, String, String> binding : first) {
+			second.add(new EasyBinding<>(binder, binding.getField(), MyEntity::getName, MyEntity::setName, "second",
+					Converter.identity()));
+			third.add(new EasyBinding<>(binder, binding.getField(), MyEntity::getName, MyEntity::setName, "third",
+					Converter.identity()));
+		}
+		first.forEach(table::add);
+		second.forEach(table::add);
+		third.forEach(table::add);
+
+		// Removing a binding that is not the indexed one keeps the index
+		second.subList(0, 25).forEach(table::remove);
+		for (int i = 0; i < 50; i++) {
+			assertEquals(first.get(i), table.getBinding(first.get(i).getField()));
+		}
+
+		first.forEach(table::remove);
+		for (int i = 0; i < 50; i++) {
+			assertEquals(i < 25 ? third.get(i) : second.get(i), table.getBinding(first.get(i).getField()));
+		}
+
+		second.forEach(table::remove);
+		for (int i = 0; i < 50; i++) {
+			assertEquals(third.get(i), table.getBinding(first.get(i).getField()));
+		}
+
+		third.forEach(table::remove);
+		assertTrue(table.isEmpty());
+		for (EasyBinding<MyEntity, String, String> binding : first) {
+			assertNull(table.getBinding(binding.getField()));
+		}
+	}
+
+	@Test
+	public void testRemoveKeepsOrder() {
+		List<EasyBinding<MyEntity, String, String>> bindings = createBindings(10);
+		bindings.forEach(table::add);
+
+		assertTrue(table.remove(bindings.get(3)));
+		assertFalse(table.remove(bindings.get(3)));
+		assertTrue(table.remove(bindings.get(7)));
+
+		assertEquals(8, table.size());
+		assertFalse(table.contains(bindings.get(3)));
+		assertNull(table.getBinding(bindings.get(3).getField()));
+
+		List<EasyBinding<MyEntity, ?, ?>> iterated = new ArrayList<>();
+		table.forEach(iterated::add);
+		bindings.remove(7);
+		bindings.remove(3);
+		assertEquals(bindings, iterated);
+		assertEquals(bindings, new ArrayList<>(table));
+	}
+
+	@Test
+	public void testRemoveAllAndReAdd() {
+		List<EasyBinding<MyEntity, String, String>> bindings = createBindings(100);
+		bindings.forEach(table::add);
+		bindings.forEach(table::remove);
+		assertTrue(table.isEmpty());
+		assertFalse(table.anyMatch(e -> true));
+
+		bindings.forEach(table::add);
+		assertEquals(100, table.size());
+		assertEquals(bindings.get(99), table.get(99));
+
+		table.clear();
+		assertTrue(table.isEmpty());
+		assertFalse(table.contains(bindings.get(0)));
+	}
+
+	@Test
+	public void testAnyMatch() {
+		List<EasyBinding<MyEntity, String, String>> bindings = createBindings(3);
+		bindings.forEach(table::add);
+		assertTrue(table.anyMatch(e -> e == bindings.get(2)));
+		table.remove(bindings.get(2));
+		assertFalse(table.anyMatch(e -> e == bindings.get(2)));
+	}
+}
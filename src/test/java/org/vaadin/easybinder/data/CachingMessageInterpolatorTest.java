@@ -0,0 +1,187 @@
+package org.vaadin.easybinder.data;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import javax.validation.Configuration;
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.MessageInterpolator;
+import javax.validation.Validation;
+import javax.validation.Payload;
+import javax.validation.Validator;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+import org.hibernate.validator.constraints.LuhnCheck;
+import org.junit.Test;
+
+public class CachingMessageInterpolatorTest {
+
+	public static class MyEntity {
+		@NotNull
+		String name;
+
+		@NotNull
+		String code;
+
+		@Size(min = 2)
+		String title;
+
+		@Min(1)
+		int count;
+
+		@Min(5)
+		int other;
+
+		@Min(value = 1, message = "${validatedValue} is too small")
+		int expression;
+
+		@NotNull(payload = ConstraintViolationCache.NonCacheable.class)
+		String nonCacheable;
+
+		@DecimalMax("10")
+		String decimal = "11";
+	}
+
+	@Target(FIELD)
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = ParityValidator.class)
+	public @interface Even {
+		String message() default "remainder is {remainder}";
+
+		Class<?>[] groups() default {};
+
+		Class<? extends Payload>[] payload() default {};
+	}
+
+	public static class ParityValidator implements ConstraintValidator<Even, Integer> {
+		@Override
+		public boolean isValid(Integer value, ConstraintValidatorContext context) {
+			if (value == null || value % 2 == 0) {
+				return true;
+			}
+			context.unwrap(HibernateConstraintValidatorContext.class).addMessageParameter("remainder", value % 4);
+			return false;
+		}
+	}
+
+	public static class DynamicEntity {
+		@LuhnCheck(payload = ConstraintViolationCache.NonCacheable.class)
+		String card;
+
+		@Even(payload = ConstraintViolationCache.NonCacheable.class)
+		Integer number;
+	}
+
+	Configuration<?> configuration = Validation.byDefaultProvider().configure();
+
+	MessageInterpolator defaultInterpolator = mock(MessageInterpolator.class,
+			delegatesTo(configuration.getDefaultMessageInterpolator()));
+
+	CachingMessageInterpolator interpolator = new CachingMessageInterpolator(defaultInterpolator);
+
+	Validator validator = configuration.messageInterpolator(interpolator).buildValidatorFactory().getValidator();
+
+	Validator plainValidator = Validation.buildDefaultValidatorFactory().getValidator();
+
+	private List<String> messages(Validator validator, Object bean) {
+		return validator.validate(bean).stream()
+				.map(e -> e.getPropertyPath() + ":" + e.getMessage()).sorted().collect(Collectors.toList());
+	}
+
+	@Test
+	public void testSameMessages() {
+		MyEntity bean = new MyEntity();
+		bean.title = "a";
+		assertEquals(messages(plainValidator, bean), messages(validator, bean));
+		assertEquals(messages(plainValidator, bean), messages(validator, bean));
+		bean.expression = -5;
+		assertEquals(messages(plainValidator, bean), messages(validator, bean));
+	}
+
+	@Test
+	public void testCache() {
+		MyEntity bean = new MyEntity();
+		bean.title = "a";
+		validator.validate(bean);
+		// name and code share the @NotNull message, count and other differ in value
+		assertEquals(1, interpolator.getHitCount());
+		assertEquals(5, interpolator.getMissCount());
+		assertEquals(5, interpolator.getSize());
+
+		validator.validate(bean);
+		assertEquals(7, interpolator.getHitCount());
+		// The expression and the non-cacheable messages are always interpolated
+		verify(defaultInterpolator, times(9)).interpolate(any(), any());
+
+		interpolator.clear();
+		assertEquals(0, interpolator.getSize());
+		assertEquals(0, interpolator.getHitCount());
+	}
+
+	@Test
+	public void testLocale() {
+		MyEntity bean = new MyEntity();
+		Validator german = Validation.byDefaultProvider().configure().messageInterpolator(new MessageInterpolator() {
+			@Override
+			public String interpolate(String messageTemplate, Context context) {
+				return interpolator.interpolate(messageTemplate, context, Locale.GERMAN);
+			}
+
+			@Override
+			public String interpolate(String messageTemplate, Context context, Locale locale) {
+				return interpolator.interpolate(messageTemplate, context, locale);
+			}
+		}).buildValidatorFactory().getValidator();
+		german.validate(bean);
+		long misses = interpolator.getMissCount();
+		validator.validate(bean);
+		// Messages of the default locale are cached separately
+		assertEquals(2 * misses, interpolator.getMissCount());
+		// Four cached messages and the two messages that are never cached
+		verify(defaultInterpolator, times(6)).interpolate(any(), any(), eq(Locale.GERMAN));
+	}
+
+	@Test
+	public void testValueDependentMessages() {
+		DynamicEntity bean = new DynamicEntity();
+		bean.card = "1234";
+		bean.number = 1;
+		List<String> first = messages(validator, bean);
+		assertEquals(messages(plainValidator, bean), first);
+
+		bean.card = "4321";
+		bean.number = 3;
+		List<String> second = messages(validator, bean);
+		assertEquals(messages(plainValidator, bean), second);
+		assertNotEquals(first, second);
+		// The bundle message of @LuhnCheck uses ${validatedValue}, @Even adds a message parameter,
+		// both are excluded by their payload
+		assertEquals(0, interpolator.getSize());
+		assertEquals(0, interpolator.getHitCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidSize() {
+		new CachingMessageInterpolator(defaultInterpolator, 0);
+	}
+}
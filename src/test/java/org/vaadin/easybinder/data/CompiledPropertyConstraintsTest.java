@@ -0,0 +1,148 @@
+package org.vaadin.easybinder.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.constraints.Email;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+
+import org.junit.Test;
+
+public class CompiledPropertyConstraintsTest {
+
+	public interface MyGroup {
+	}
+
+	public static class Address {
+		@NotNull
+		String street;
+	}
+
+	public static class MyEntity {
+		@NotNull
+		@Size(min = 2, max = 5)
+		String name;
+
+		@Size(max = 2)
+		List<String> tags;
+
+		@Size(min = 1, groups = MyGroup.class)
+		Object[] items;
+
+		@Min(-3)
+		@Max(10)
+		Long count;
+
+		@Min(1)
+		BigDecimal amount;
+
+		@Max(100)
+		BigInteger big;
+
+		@Min(0)
+		Double ratio;
+
+		@Pattern(regexp = "[a-z]+\\d?")
+		String code;
+
+		@Pattern(regexp = "abc", flags = Pattern.Flag.CASE_INSENSITIVE)
+		String caseless;
+
+		@Email
+		String email;
+
+		@Valid
+		Address address;
+
+		String free;
+
+		List<@NotNull String> elements;
+	}
+
+	Validator validator = ValidatorRegistry.getInstance().getValidator();
+
+	/**
+	 * Checks that the compiled constraints agree with the validator, i.e. a
+	 * value satisfying the compiled constraints has no violations and, for the
+	 * value types the checks handle, a value with no violations satisfies the
+	 * compiled constraints.
+	 */
+	private void assertSameResult(String property, boolean handled, Object... values) {
+		CompiledPropertyConstraints constraints = CompiledPropertyConstraints.compile(validator, MyEntity.class,
+				property);
+		assertNotNull(property, constraints);
+		for (Object value : values) {
+			boolean valid = validator.validateValue(MyEntity.class, property, value).isEmpty()
+					&& validator.validateValue(MyEntity.class, property, value, MyGroup.class).isEmpty();
+			boolean satisfied = constraints.isSatisfiedBy(value);
+			String message = property + "=" + (value instanceof Object[] ? Arrays.toString((Object[]) value) : value);
+			if (satisfied) {
+				assertTrue(message, valid);
+			}
+			if (handled || value == null) {
+				assertEquals(message, valid, satisfied);
+			}
+		}
+	}
+
+	@Test
+	public void testSize() {
+		assertSameResult("name", true, null, "", "a", "ab", "abcde", "abcdef", new StringBuilder("abc"));
+		assertSameResult("tags", true, null, Collections.emptyList(), Arrays.asList("a", "b"),
+				Arrays.asList("a", "b", "c"));
+		assertSameResult("items", true, null, new Object[0], new Object[] { "a" }, new String[] { "a", "b" });
+	}
+
+	@Test
+	public void testMinMax() {
+		assertSameResult("count", true, null, -4L, -3L, 0L, 10L, 11L, Long.MIN_VALUE, Long.MAX_VALUE);
+		assertSameResult("amount", true, null, new BigDecimal("0.99"), BigDecimal.ONE, new BigDecimal("1.00"),
+				new BigDecimal("1E+3"), new BigDecimal("-1"));
+		assertSameResult("big", true, null, BigInteger.valueOf(100), BigInteger.valueOf(101),
+				new BigInteger("-100000000000000000000"), new BigInteger("100000000000000000000"));
+		// Floating point values are left to the validator
+		assertSameResult("ratio", false, null, -0.5, 0.0, 1.5, Double.NaN, Double.POSITIVE_INFINITY);
+	}
+
+	@Test
+	public void testPattern() {
+		assertSameResult("code", true, null, "", "abc", "abc1", "abc12", "ABC", "ab c");
+		assertSameResult("caseless", true, null, "abc", "ABC", "aBc", "abcd");
+	}
+
+	@Test
+	public void testUnconstrained() {
+		assertSameResult("free", true, null, "", "x");
+	}
+
+	@Test
+	public void testNotCompilable() {
+		assertNull(CompiledPropertyConstraints.compile(validator, MyEntity.class, "email"));
+		assertNull(CompiledPropertyConstraints.compile(validator, MyEntity.class, "address"));
+		assertNull(CompiledPropertyConstraints.compile(validator, MyEntity.class, "address.street"));
+		assertNull(CompiledPropertyConstraints.compile(validator, MyEntity.class, "elements"));
+	}
+
+	@Test
+	public void testUnhandledTypes() {
+		// Types the checks do not handle are left to the validator
+		assertFalse(CompiledPropertyConstraints.compile(validator, MyEntity.class, "name").isSatisfiedBy(42));
+		assertFalse(CompiledPropertyConstraints.compile(validator, MyEntity.class, "count").isSatisfiedBy("5"));
+		assertFalse(CompiledPropertyConstraints.compile(validator, MyEntity.class, "code").isSatisfiedBy(5));
+	}
+}
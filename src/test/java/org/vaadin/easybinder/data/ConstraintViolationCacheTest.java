@@ -0,0 +1,134 @@
+package org.vaadin.easybinder.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.constraints.Future;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.junit.Test;
+
+public class ConstraintViolationCacheTest {
+
+	public interface MyGroup {
+	}
+
+	public static class Address {
+		@NotNull
+		String street;
+	}
+
+	public static class MyEntity {
+		@NotNull
+		@Size(min = 2)
+		String name;
+
+		@Min(1)
+		int count;
+
+		@Future
+		LocalDate due;
+
+		@NotNull(payload = ConstraintViolationCache.NonCacheable.class)
+		String code;
+
+		@Size(min = 1)
+		List<String> tags;
+
+		@Valid
+		Address address;
+
+		@NotNull(groups = MyGroup.class)
+		String grouped;
+	}
+
+	Validator validator = ValidatorRegistry.getInstance().getValidator();
+
+	@Test
+	public void testHitAndMiss() {
+		ConstraintViolationCache cache = new ConstraintViolationCache();
+		MyEntity bean = new MyEntity();
+
+		Set<ConstraintViolation<MyEntity>> violations = cache.validateProperty(validator, bean, "name", "a");
+		assertEquals(1, violations.size());
+		assertEquals("name", violations.iterator().next().getPropertyPath().toString());
+		assertEquals(0, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+
+		assertTrue(violations == cache.validateProperty(validator, new MyEntity(), "name", "a"));
+		assertEquals(1, cache.getHitCount());
+
+		assertTrue(cache.validateProperty(validator, bean, "name", "ab").isEmpty());
+		assertEquals(1, cache.validateProperty(validator, bean, "name", null).size());
+		assertEquals(1, cache.validateProperty(validator, bean, "count", 0).size());
+		assertTrue(cache.validateProperty(validator, bean, "count", 1).isEmpty());
+		assertEquals(5, cache.getMissCount());
+		assertEquals(5, cache.getSize());
+
+		cache.clear();
+		assertEquals(0, cache.getSize());
+		assertEquals(0, cache.getHitCount());
+		assertEquals(0, cache.getMissCount());
+	}
+
+	@Test
+	public void testGroupsInKey() {
+		ConstraintViolationCache cache = new ConstraintViolationCache();
+		MyEntity bean = new MyEntity();
+		assertTrue(cache.validateProperty(validator, bean, "grouped", null).isEmpty());
+		assertEquals(1, cache.validateProperty(validator, bean, "grouped", null, MyGroup.class).size());
+		assertEquals(2, cache.getMissCount());
+	}
+
+	@Test
+	public void testNotCacheable() {
+		ConstraintViolationCache cache = new ConstraintViolationCache();
+		MyEntity bean = new MyEntity();
+		assertFalse(cache.isCacheable(validator, MyEntity.class, "due", LocalDate.now()));
+		assertFalse(cache.isCacheable(validator, MyEntity.class, "code", null));
+		assertFalse(cache.isCacheable(validator, MyEntity.class, "tags", new ArrayList<>()));
+		assertFalse(cache.isCacheable(validator, MyEntity.class, "address", null));
+		assertFalse(cache.isCacheable(validator, MyEntity.class, "address.street", null));
+		assertTrue(cache.isCacheable(validator, MyEntity.class, "name", "a"));
+		assertTrue(cache.isCacheable(validator, MyEntity.class, "count", 1));
+
+		assertEquals(1, cache.validateProperty(validator, bean, "code", null).size());
+		assertEquals(1, cache.validateProperty(validator, bean, "code", null).size());
+		assertEquals(0, cache.getMissCount());
+		assertEquals(0, cache.getSize());
+	}
+
+	@Test
+	public void testEviction() {
+		ConstraintViolationCache cache = new ConstraintViolationCache(2);
+		MyEntity bean = new MyEntity();
+		cache.validateProperty(validator, bean, "count", 1);
+		cache.validateProperty(validator, bean, "count", 2);
+		cache.validateProperty(validator, bean, "count", 1);
+		cache.validateProperty(validator, bean, "count", 3);
+		assertEquals(2, cache.getSize());
+		assertEquals(1, cache.getHitCount());
+
+		// 2 was least recently used and has been evicted
+		cache.validateProperty(validator, bean, "count", 1);
+		assertEquals(2, cache.getHitCount());
+		cache.validateProperty(validator, bean, "count", 2);
+		assertEquals(4, cache.getMissCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidSize() {
+		new ConstraintViolationCache(0);
+	}
+}
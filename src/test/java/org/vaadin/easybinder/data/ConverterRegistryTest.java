@@ -3,10 +3,13 @@ package org.vaadin.easybinder.data;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
@@ -27,6 +30,46 @@ public class ConverterRegistryTest {
 		assertEquals(r, r2);
 	}
 
+	@Test
+	public void testResolutionCache() {
+		ReflectionBinder<Object> binder = new ReflectionBinder<>(Object.class);
+		ConverterResolution resolution = binder.resolveConverter(String.class, String.class, "");
+		assertEquals(ConverterResolution.Source.IDENTITY, resolution.getSource());
+		assertSame(resolution, r.getCachedResolution(String.class, String.class, ""));
+		assertSame(resolution, binder.resolveConverter(String.class, String.class, ""));
+		assertNull(r.getCachedResolution(String.class, String.class, null));
+
+		Converter<String, String> converter = Converter.from(e -> Result.ok(e), f -> f);
+		r.registerConverter(String.class, String.class, converter);
+		try {
+			assertNull(r.getCachedResolution(String.class, String.class, ""));
+			resolution = binder.resolveConverter(String.class, String.class, "");
+			assertEquals(ConverterResolution.Source.REGISTRY, resolution.getSource());
+			assertSame(converter, resolution.getConverter());
+		} finally {
+			r.unregisterConverter(String.class, String.class);
+		}
+		assertNull(r.getCachedResolution(String.class, String.class, ""));
+		assertEquals(ConverterResolution.Source.IDENTITY,
+				binder.resolveConverter(String.class, String.class, "").getSource());
+	}
+
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void testResolutionCacheMutableEmptyValue() {
+		ReflectionBinder<Object> binder = new ReflectionBinder<>(Object.class);
+		ConverterResolution shared = binder.resolveConverter(Set.class, Set.class, Collections.emptySet());
+		assertSame(shared, r.getCachedResolution(Set.class, Set.class, Collections.emptySet()));
+
+		// An equal but mutable empty value gets its own converter
+		Set<Object> emptyValue = new HashSet<>();
+		ConverterResolution resolution = binder.resolveConverter(Set.class, Set.class, emptyValue);
+		assertNotSame(shared, resolution);
+		Converter<Set, Set> converter = resolution.getConverter();
+		assertSame(emptyValue, converter.convertToPresentation(null, null));
+		assertNotSame(resolution, binder.resolveConverter(Set.class, Set.class, emptyValue));
+	}
+
 	@Test
 	public void testRegisterUnregister() {
 		assertNull(r.getConverter(String.class, String.class));
@@ -0,0 +1,178 @@
+package org.vaadin.easybinder.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.Test;
+import org.vaadin.easybinder.data.BeanMetadata.PropertyMetadata;
+
+import com.vaadin.data.PropertyDefinition;
+import com.vaadin.data.ValueProvider;
+import com.vaadin.server.Setter;
+
+public class GeneratedAccessorsTest {
+
+	public static class Address {
+		String street;
+
+		public String getStreet() {
+			return street;
+		}
+
+		public void setStreet(String street) {
+			this.street = street;
+		}
+	}
+
+	public static class MyEntity {
+		int age;
+
+		boolean active;
+
+		String name;
+
+		Address address = new Address();
+
+		public int getAge() {
+			return age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public void setActive(boolean active) {
+			this.active = active;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Address getAddress() {
+			return address;
+		}
+
+		public void setAddress(Address address) {
+			this.address = address;
+		}
+
+		public String getComputed() {
+			return name + age;
+		}
+	}
+
+	static class HiddenEntity {
+		String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Test
+	public void testGenerated() throws Exception {
+		assertTrue(GeneratedAccessors.createGetter(MyEntity.class.getMethod("getName")) instanceof GeneratedAccessors.GeneratedGetter);
+		assertTrue(GeneratedAccessors.createSetter(MyEntity.class.getMethod("setAge", int.class)) instanceof GeneratedAccessors.GeneratedSetter);
+
+		BeanMetadata<MyEntity> metadata = BeanMetadata.get(MyEntity.class);
+		assertTrue(metadata.getProperty("name").get().getGetter() instanceof GeneratedAccessors.GeneratedGetter);
+		assertTrue(metadata.getProperty("name").get().getSetter().get() instanceof GeneratedAccessors.GeneratedSetter);
+		assertFalse(metadata.getProperty("computed").get().getSetter().isPresent());
+	}
+
+	@Test
+	public void testSameAsDefinition() {
+		BeanMetadata<MyEntity> metadata = BeanMetadata.get(MyEntity.class);
+		assertSameBehavior(metadata, "age", 42);
+		assertSameBehavior(metadata, "active", true);
+		assertSameBehavior(metadata, "name", "foo");
+		assertSameBehavior(metadata, "name", null);
+		assertSameBehavior(metadata, "address.street", "bar");
+
+		MyEntity entity = new MyEntity();
+		entity.setName("foo");
+		entity.setAge(3);
+		PropertyMetadata<MyEntity> computed = metadata.getProperty("computed").get();
+		assertEquals(computed.getDefinition().getGetter().apply(entity), computed.getGetter().apply(entity));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void assertSameBehavior(BeanMetadata<MyEntity> metadata, String propertyName, Object value) {
+		PropertyMetadata<MyEntity> property = metadata.getProperty(propertyName).get();
+		PropertyDefinition<MyEntity, Object> definition = (PropertyDefinition<MyEntity, Object>) property.getDefinition();
+		ValueProvider<MyEntity, Object> getter = (ValueProvider<MyEntity, Object>) property.getGetter();
+		Setter<MyEntity, Object> setter = (Setter<MyEntity, Object>) property.getSetter().get();
+
+		MyEntity generated = new MyEntity();
+		MyEntity reflective = new MyEntity();
+		assertEquals(definition.getGetter().apply(reflective), getter.apply(generated));
+		setter.accept(generated, value);
+		definition.getSetter().get().accept(reflective, value);
+		assertEquals(value, getter.apply(generated));
+		assertEquals(definition.getGetter().apply(reflective), getter.apply(generated));
+		assertEquals(definition.getGetter().apply(generated), getter.apply(reflective));
+	}
+
+	@Test
+	public void testFallback() throws Exception {
+		assertNull(GeneratedAccessors.createGetter(HiddenEntity.class.getMethod("getName")));
+		assertNull(GeneratedAccessors.createSetter(HiddenEntity.class.getMethod("setName", String.class)));
+		assertNull(GeneratedAccessors.createGetter(null));
+
+		PropertyMetadata<HiddenEntity> name = BeanMetadata.get(HiddenEntity.class).getProperty("name").get();
+		assertFalse(name.getGetter() instanceof GeneratedAccessors.GeneratedGetter);
+		assertFalse(name.getSetter().get() instanceof GeneratedAccessors.GeneratedSetter);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testSerialization() throws Exception {
+		BeanMetadata<MyEntity> metadata = BeanMetadata.get(MyEntity.class);
+		ValueProvider<MyEntity, Object> getter = serialize(
+				(ValueProvider<MyEntity, Object>) metadata.getProperty("address.street").get().getGetter());
+		Setter<MyEntity, Object> setter = serialize(
+				(Setter<MyEntity, Object>) metadata.getProperty("address.street").get().getSetter().get());
+		Setter<MyEntity, Object> ageSetter = serialize(
+				(Setter<MyEntity, Object>) metadata.getProperty("age").get().getSetter().get());
+
+		MyEntity entity = new MyEntity();
+		setter.accept(entity, "foo");
+		ageSetter.accept(entity, 7);
+		assertNotNull(getter);
+		assertEquals("foo", getter.apply(entity));
+		assertEquals(7, entity.getAge());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T serialize(T object) throws IOException, ClassNotFoundException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(object);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			return (T) in.readObject();
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package org.vaadin.easybinder.data;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class ImmutableValuesTest {
+
+	enum Color {
+		RED
+	}
+
+	@SuppressWarnings("serial")
+	static class MyDecimal extends BigDecimal {
+		MyDecimal() {
+			super(1);
+		}
+	}
+
+	@Test
+	public void testImmutable() {
+		assertTrue(ImmutableValues.isImmutable(null));
+		assertTrue(ImmutableValues.isImmutable("foo"));
+		assertTrue(ImmutableValues.isImmutable(1));
+		assertTrue(ImmutableValues.isImmutable('c'));
+		assertTrue(ImmutableValues.isImmutable(Color.RED));
+		assertTrue(ImmutableValues.isImmutable(BigDecimal.ONE));
+		assertTrue(ImmutableValues.isImmutable(BigInteger.TEN));
+		assertTrue(ImmutableValues.isImmutable(UUID.randomUUID()));
+		assertTrue(ImmutableValues.isImmutable(LocalDate.now()));
+		assertTrue(ImmutableValues.isImmutable(Collections.emptySet()));
+	}
+
+	@Test
+	public void testMutable() {
+		assertFalse(ImmutableValues.isImmutable(new MyDecimal()));
+		assertFalse(ImmutableValues.isImmutable(new Date()));
+		assertFalse(ImmutableValues.isImmutable(new HashSet<>()));
+		assertFalse(ImmutableValues.isImmutable(new ArrayList<>()));
+		assertFalse(ImmutableValues.isImmutable(new StringBuilder()));
+	}
+}
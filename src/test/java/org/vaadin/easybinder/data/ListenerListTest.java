@@ -0,0 +1,73 @@
+package org.vaadin.easybinder.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+import com.vaadin.shared.Registration;
+
+public class ListenerListTest {
+
+	@Test
+	public void testAddRemove() {
+		ListenerList<Consumer<String>> list = new ListenerList<>();
+		List<String> calls = new ArrayList<>();
+		Consumer<String> first = e -> calls.add("first " + e);
+		Consumer<String> second = e -> calls.add("second " + e);
+		Registration registration = list.add(first);
+		list.add(second);
+
+		list.forEach(listener -> listener.accept("a"));
+		registration.remove();
+		list.forEach(listener -> listener.accept("b"));
+		list.remove(second);
+
+		assertEquals(3, calls.size());
+		assertEquals("first a", calls.get(0));
+		assertEquals("second a", calls.get(1));
+		assertEquals("second b", calls.get(2));
+		assertTrue(list.isEmpty());
+	}
+
+	@Test
+	public void testDuplicateAdd() {
+		ListenerList<Runnable> list = new ListenerList<>();
+		List<String> calls = new ArrayList<>();
+		Runnable listener = () -> calls.add("called");
+		list.add(listener);
+		Registration registration = list.add(listener);
+
+		// Added once, like the framework's EventRouter
+		list.forEach(Runnable::run);
+		assertEquals(1, calls.size());
+
+		registration.remove();
+		assertTrue(list.isEmpty());
+
+		list.add(listener);
+		list.add(listener);
+		list.remove(listener);
+		assertTrue(list.isEmpty());
+	}
+
+	@Test
+	public void testSnapshot() {
+		ListenerList<Runnable> list = new ListenerList<>();
+		List<String> calls = new ArrayList<>();
+		list.add(() -> {
+			calls.add("first");
+			list.add(() -> calls.add("added"));
+		});
+
+		// Listeners added while firing are called from the next event on
+		list.forEach(Runnable::run);
+		assertEquals(1, calls.size());
+		list.forEach(Runnable::run);
+		assertEquals(3, calls.size());
+	}
+}
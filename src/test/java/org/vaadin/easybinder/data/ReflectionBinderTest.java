@@ -3,24 +3,40 @@ package org.vaadin.easybinder.data;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.any;
 
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import javax.validation.Validator;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 
 import org.junit.Test;
 import org.vaadin.easybinder.data.BasicBinder.EasyBinding;
+import org.vaadin.easybinder.data.converters.NullConverter;
 import org.vaadin.easybinder.ui.EComboBox;
 import org.vaadin.easybinder.ui.EGTypeComponentAdapter;
 
@@ -28,11 +44,15 @@ import com.vaadin.data.Converter;
 import com.vaadin.data.HasValue;
 import com.vaadin.data.Result;
 import com.vaadin.data.converter.StringToIntegerConverter;
+import com.vaadin.data.provider.DataProvider;
+import com.vaadin.data.provider.ListDataProvider;
+import com.vaadin.server.VaadinSession;
 import com.vaadin.ui.AbstractField;
 import com.vaadin.ui.RadioButtonGroup;
 import com.vaadin.ui.Slider;
 import com.vaadin.ui.TextField;
 import com.vaadin.ui.TwinColSelect;
+import com.vaadin.ui.UI;
 
 public class ReflectionBinderTest {
 	static enum TestEnum {
@@ -96,6 +116,45 @@ public class ReflectionBinderTest {
 		}
 	}
 
+	public static class ObservableEntity {
+		PropertyChangeSupport support = new PropertyChangeSupport(this);
+		@NotNull
+		String name;
+		@Min(value = 1)
+		int count = 1;
+		// Derived from count
+		int total = 10;
+
+		public String getName() {
+			return name;
+		}
+		public void setName(String name) {
+			String old = this.name;
+			this.name = name;
+			support.firePropertyChange("name", old, name);
+		}
+		public int getCount() {
+			return count;
+		}
+		public void setCount(int count) {
+			int old = this.count;
+			int oldTotal = total;
+			this.count = count;
+			total = count * 10;
+			support.firePropertyChange("count", old, count);
+			support.firePropertyChange("total", oldTotal, total);
+		}
+		public int getTotal() {
+			return total;
+		}
+		public void addPropertyChangeListener(PropertyChangeListener listener) {
+			support.addPropertyChangeListener(listener);
+		}
+		public void removePropertyChangeListener(PropertyChangeListener listener) {
+			support.removePropertyChangeListener(listener);
+		}
+	}
+
 	class TestEntityChild extends TestEntity {
 
 	}
@@ -150,6 +209,63 @@ public class ReflectionBinderTest {
 		assertEquals(TestEnum.class, binder.getPresentationTypeForField(r).get());
 	}
 
+	@Test
+	public void testGetFieldTypeForClass() {
+		assertEquals(Optional.of(String.class), ReflectionBinder.getPresentationTypeForClass(TextField.class));
+		assertSame(ReflectionBinder.getPresentationTypeForClass(TextField.class),
+				ReflectionBinder.getPresentationTypeForClass(TextField.class));
+		assertFalse(ReflectionBinder.getPresentationTypeForClass(RadioButtonGroup.class).isPresent());
+
+		// Instances of generic field classes are still probed
+		RadioButtonGroup<TestEnum> r = new RadioButtonGroup<TestEnum>();
+		assertFalse(binder.getPresentationTypeForField(r).isPresent());
+		r.setValue(TestEnum.Test1);
+		assertEquals(TestEnum.class, binder.getPresentationTypeForField(r).get());
+	}
+
+	public static class ItemEntity {
+		TestEnum item;
+
+		public TestEnum getItem() {
+			return item;
+		}
+
+		public void setItem(TestEnum item) {
+			this.item = item;
+		}
+	}
+
+	@Test
+	public void testBindWithoutDataProviderProbing() {
+		ListDataProvider<TestEnum> dataProvider = spy(DataProvider.ofItems(TestEnum.values()));
+		RadioButtonGroup<TestEnum> r = new RadioButtonGroup<TestEnum>();
+		r.setDataProvider(dataProvider);
+
+		ReflectionBinder<ItemEntity> itemBinder = new ReflectionBinder<>(ItemEntity.class);
+		itemBinder.bind(r, "item");
+		verify(dataProvider, atLeastOnce()).size(any());
+
+		clearInvocations(dataProvider);
+		itemBinder = new ReflectionBinder<>(ItemEntity.class);
+		itemBinder.setDataProviderProbing(false);
+		assertFalse(itemBinder.isDataProviderProbing());
+		itemBinder.bind(r, "item");
+		ItemEntity entity = new ItemEntity();
+		entity.setItem(TestEnum.Test2);
+		itemBinder.setBean(entity);
+		assertEquals(TestEnum.Test2, r.getValue());
+		r.setValue(TestEnum.Test1);
+		assertEquals(TestEnum.Test1, entity.getItem());
+
+		// A hint is used instead of probing also if probing is enabled
+		itemBinder = new ReflectionBinder<>(ItemEntity.class);
+		itemBinder.setPresentationTypeHint("item", TestEnum.class);
+		assertEquals(Optional.of(TestEnum.class), itemBinder.getPresentationTypeHint("item"));
+		itemBinder.bind(r, "item");
+		verify(dataProvider, never()).size(any());
+		verify(dataProvider, never()).fetch(any());
+	}
+
 	@Test
 	public void testGetFieldTypeForHasGenericType() {
 		EComboBox<TestEnum> r = new EComboBox<>(TestEnum.class);
@@ -478,6 +594,30 @@ public class ReflectionBinderTest {
 		assertEquals(emptyValue, converter.convertToPresentation(null, null));
 	}
 
+	@Test
+	public void testResolveConverter() {
+		ConverterResolution resolution = binder.resolveConverter(int.class, Integer.class, 0);
+		assertEquals(ConverterResolution.Source.IDENTITY, resolution.getSource());
+		verify(converterRegistry).cacheResolution(resolution);
+
+		resolution = binder.resolveConverter(Integer.class, int.class, null);
+		assertEquals(ConverterResolution.Source.PRIMITIVE_IDENTITY, resolution.getSource());
+
+		resolution = binder.resolveConverter(String.class, Integer.class, "");
+		assertEquals(ConverterResolution.Source.NONE, resolution.getSource());
+		assertNull(resolution.getConverter());
+
+		// The converter returns the empty value, so it is not shared if the value is mutable
+		resolution = binder.resolveConverter(Set.class, Set.class, new HashSet<>());
+		verify(converterRegistry, never()).cacheResolution(resolution);
+
+		ConverterResolution cached = new ConverterResolution(String.class, String.class, "",
+				ConverterResolution.Source.IDENTITY, new NullConverter<>(""));
+		when(converterRegistry.getCachedResolution(String.class, String.class, "")).thenReturn(cached);
+		assertSame(cached, binder.resolveConverter(String.class, String.class, ""));
+		verify(converterRegistry, never()).getConverter(String.class, String.class);
+	}
+
 	@Test
 	public void testGetGenericType() {
 		assertEquals(TestEntity.class, binder.getGenericType());
@@ -529,4 +669,210 @@ public class ReflectionBinderTest {
 		verify(field, times(1)).setRequiredIndicatorVisible(true);
 	}
 
+
+	@Test
+	public void testObserveBean() {
+		ReflectionBinder<ObservableEntity> binder = new ReflectionBinder<>(ObservableEntity.class);
+		binder.setObserveBean(true);
+		TextField name = new TextField();
+		TextField count = new TextField();
+		TextField total = new TextField();
+		binder.bind(name, "name");
+		binder.bind(count, "count");
+		binder.bind(total, "total");
+		ObservableEntity bean = new ObservableEntity();
+		bean.setName("John");
+		binder.setBean(bean);
+		assertTrue(binder.isObserveBean());
+		assertEquals(1, bean.support.getPropertyChangeListeners().length);
+		assertEquals("10", total.getValue());
+
+		// Derived properties changed by a setter called by the binder are refreshed
+		count.setValue("2");
+		assertTrue(binder.getChangedProperties().contains("count"));
+		assertEquals("2", count.getValue());
+		assertEquals("20", total.getValue());
+
+		// Changes made by other code are reflected in the fields
+		bean.setName(null);
+		assertEquals("", name.getValue());
+		assertFalse(binder.isValid());
+		assertTrue(binder.getBinding("name").get().getValidationError().isPresent());
+		assertEquals("2", count.getValue());
+		assertTrue(binder.getChangedProperties().contains("count"));
+
+		bean.setCount(0);
+		assertEquals("0", count.getValue());
+		assertTrue(binder.getBinding("count").get().getValidationError().isPresent());
+		assertTrue(binder.getChangedProperties().isEmpty());
+
+		binder.removeBean();
+		assertEquals(0, bean.support.getPropertyChangeListeners().length);
+		bean.setCount(5);
+		assertEquals("0", count.getValue());
+	}
+
+	private UI mockUi(List<Runnable> accessTasks) {
+		UI ui = mock(UI.class);
+		VaadinSession session = mock(VaadinSession.class);
+		when(ui.getSession()).thenReturn(session);
+		when(ui.access(any())).thenAnswer(e -> {
+			accessTasks.add(e.getArgument(0));
+			return null;
+		});
+		return ui;
+	}
+
+	@Test
+	public void testObserveBeanSharedBetweenSessions() {
+		List<Runnable> accessTasks1 = new ArrayList<>();
+		List<Runnable> accessTasks2 = new ArrayList<>();
+		UI ui1 = mockUi(accessTasks1);
+		UI ui2 = mockUi(accessTasks2);
+		ObservableEntity bean = new ObservableEntity();
+		TextField name1 = new TextField();
+		TextField name2 = new TextField();
+		ReflectionBinder<ObservableEntity> binder1 = new ReflectionBinder<>(ObservableEntity.class);
+		ReflectionBinder<ObservableEntity> binder2 = new ReflectionBinder<>(ObservableEntity.class);
+		binder1.setObserveBean(true);
+		binder2.setObserveBean(true);
+		binder1.bind(name1, "name");
+		binder2.bind(name2, "name");
+		try {
+			UI.setCurrent(ui1);
+			binder1.setBean(bean);
+			UI.setCurrent(ui2);
+			binder2.setBean(bean);
+
+			// A request thread of the second session changes the shared bean
+			when(ui2.getSession().hasLock()).thenReturn(true);
+			bean.setName("John");
+			assertEquals("John", name2.getValue());
+			assertTrue(accessTasks2.isEmpty());
+			// The first session is not locked, its fields are refreshed by UI.access
+			assertEquals("", name1.getValue());
+			assertEquals(1, accessTasks1.size());
+			accessTasks1.remove(0).run();
+			assertEquals("John", name1.getValue());
+
+			// The current UI without the session lock does not refresh directly either
+			when(ui2.getSession().hasLock()).thenReturn(false);
+			bean.setName("Jane");
+			assertEquals("John", name2.getValue());
+			assertEquals(1, accessTasks2.size());
+			accessTasks2.remove(0).run();
+			assertEquals("Jane", name2.getValue());
+		} finally {
+			UI.setCurrent(null);
+		}
+	}
+
+	@Test
+	public void testObserveBeanSwitch() {
+		ReflectionBinder<ObservableEntity> binder = new ReflectionBinder<>(ObservableEntity.class);
+		binder.setObserveBean(true);
+		TextField name = new TextField();
+		binder.bind(name, "name");
+		ObservableEntity bean1 = new ObservableEntity();
+		ObservableEntity bean2 = new ObservableEntity();
+		binder.setBean(bean1);
+		binder.setBean(bean2);
+		assertEquals(0, bean1.support.getPropertyChangeListeners().length);
+		assertEquals(1, bean2.support.getPropertyChangeListeners().length);
+
+		bean1.setName("John");
+		assertEquals("", name.getValue());
+		bean2.setName("Jane");
+		assertEquals("Jane", name.getValue());
+	}
+
+	@Test
+	public void testObserveBeanDisabled() {
+		ReflectionBinder<ObservableEntity> binder = new ReflectionBinder<>(ObservableEntity.class);
+		assertFalse(binder.isObserveBean());
+		binder.setObserveBean(true);
+		binder.setObserveBean(false);
+		TextField name = new TextField();
+		binder.bind(name, "name");
+		ObservableEntity bean = new ObservableEntity();
+		binder.setBean(bean);
+		assertEquals(0, bean.support.getPropertyChangeListeners().length);
+		bean.setName("John");
+		assertEquals("", name.getValue());
+	}
+
+	public static class ConstrainedEntity {
+		@NotNull
+		@Size(min = 2)
+		String name;
+
+		@Min(18)
+		int age;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getAge() {
+			return age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+	}
+
+	private List<String> validationMessages(ReflectionBinder<ConstrainedEntity> binder) {
+		return binder.getValidationStatus().getFieldValidationErrors().stream()
+				.map(e -> ((EasyBinding<?, ?, ?>) e.getBinding()).property + ":" + e.getMessage().orElse(null))
+				.sorted().collect(Collectors.toList());
+	}
+
+	@Test
+	public void testConstraintFastPath() {
+		Validator validator = mock(Validator.class, delegatesTo(ValidatorRegistry.getInstance().getValidator()));
+		ReflectionBinder<ConstrainedEntity> fast = new ReflectionBinder<>(ConstrainedEntity.class);
+		fast.setValidator(validator);
+		TextField name = new TextField();
+		TextField age = new TextField();
+		fast.bind(name, "name");
+		fast.bind(age, "age");
+		assertFalse(fast.isConstraintFastPath());
+		assertTrue(fast.compiledConstraints.isEmpty());
+		fast.setConstraintFastPath(true);
+		assertTrue(fast.isConstraintFastPath());
+		assertEquals(2, fast.compiledConstraints.size());
+
+		ReflectionBinder<ConstrainedEntity> full = new ReflectionBinder<>(ConstrainedEntity.class);
+		TextField fullName = new TextField();
+		TextField fullAge = new TextField();
+		full.bind(fullName, "name");
+		full.bind(fullAge, "age");
+
+		ConstrainedEntity bean = new ConstrainedEntity();
+		bean.setName("John");
+		bean.setAge(20);
+		fast.setBean(bean);
+		full.setBean(new ConstrainedEntity());
+		assertTrue(fast.isValid());
+		verify(validator, never()).validate(any(), any());
+		verify(validator, never()).validateProperty(any(), any(), any());
+
+		// Invalid values are reported by the validator with the same messages
+		for (String[] values : new String[][] { { "J", "20" }, { "Jo", "17" }, { "", "x" }, { "Jane", "18" } }) {
+			name.setValue(values[0]);
+			age.setValue(values[1]);
+			fullName.setValue(values[0]);
+			fullAge.setValue(values[1]);
+			assertEquals(full.isValid(), fast.isValid());
+			assertEquals(validationMessages(full), validationMessages(fast));
+			assertEquals(full.getValidationStatus().getBeanValidationErrors().size(),
+					fast.getValidationStatus().getBeanValidationErrors().size());
+		}
+		verify(validator, atLeastOnce()).validateProperty(any(), eq("name"), any());
+	}
 }
@@ -0,0 +1,87 @@
+package org.vaadin.easybinder.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class ValidatorRegistryTest {
+	ValidatorRegistry r = ValidatorRegistry.getInstance();
+
+	@After
+	public void tearDown() {
+		r.close();
+	}
+
+	@Test
+	public void testSingleInstance() {
+		ValidatorRegistry r2 = ValidatorRegistry.getInstance();
+		assertEquals(r, r2);
+	}
+
+	@Test
+	public void testSharedValidator() {
+		Validator v = r.getValidator();
+		assertNotNull(v);
+		assertEquals(v, r.getValidator());
+		assertEquals(r.getValidatorFactory(), r.getValidatorFactory());
+	}
+
+	@Test
+	public void testSetValidatorFactory() {
+		ValidatorFactory factory = mock(ValidatorFactory.class);
+		Validator validator = mock(Validator.class);
+		when(factory.getValidator()).thenReturn(validator);
+
+		r.setValidatorFactory(factory);
+
+		assertEquals(factory, r.getValidatorFactory());
+		assertEquals(validator, r.getValidator());
+
+		r.close();
+		verify(factory, never()).close();
+		assertNotEquals(factory, r.getValidatorFactory());
+	}
+
+	@Test
+	public void testReplaceDefaultValidatorFactory() {
+		ValidatorRegistry registry = new ValidatorRegistry();
+		ValidatorFactory defaultFactory = mock(ValidatorFactory.class);
+		registry.validatorFactory = defaultFactory;
+		registry.ownsValidatorFactory = true;
+		ValidatorFactory factory = mock(ValidatorFactory.class);
+
+		registry.setValidatorFactory(factory);
+
+		// Binders created before the replacement keep validating with the default factory
+		verify(defaultFactory, never()).close();
+		assertEquals(factory, registry.getValidatorFactory());
+		registry.close();
+		verify(factory, never()).close();
+	}
+
+	@Test
+	public void testCachingMessageInterpolator() {
+		assertFalse(r.isMessageCaching());
+		assertFalse(r.getValidatorFactory().getMessageInterpolator() instanceof CachingMessageInterpolator);
+
+		r.close();
+		r.setMessageCaching(true);
+		try {
+			assertTrue(r.getValidatorFactory().getMessageInterpolator() instanceof CachingMessageInterpolator);
+		} finally {
+			r.setMessageCaching(false);
+		}
+	}
+}